@@ -0,0 +1,12 @@
+-- Analytics Service: journey summaries
+-- V002: Per-domain event counts and close reason on journeys, maintained from the
+-- summaries the Web BFF's sessionizer upserts (POST /api/analytics/journeys/batch)
+
+ALTER TABLE journeys
+    ADD COLUMN IF NOT EXISTS domain_counts JSONB NOT NULL DEFAULT '{}',
+    ADD COLUMN IF NOT EXISTS end_reason VARCHAR(20);
+
+CREATE INDEX IF NOT EXISTS idx_journeys_ended ON journeys(ended_at);
+
+COMMENT ON COLUMN journeys.domain_counts IS 'Event count per domain, e.g. {"user": 2, "credit-card": 5}';
+COMMENT ON COLUMN journeys.end_reason IS 'Why the latest summary closed: logged_out, inactive, evicted or shutdown';
@@ -0,0 +1,13 @@
+-- Analytics Service: idempotent journey summaries
+-- V003: IDs of the journey summaries already added to journeys, so a batch the Web BFF retries
+-- after a lost response is not counted twice. Retries happen within minutes; older IDs are pruned.
+
+CREATE TABLE IF NOT EXISTS applied_journey_summaries (
+    summary_id VARCHAR(100) PRIMARY KEY,
+    journey_id VARCHAR(50) NOT NULL,
+    applied_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_applied_journey_summaries_applied ON applied_journey_summaries(applied_at);
+
+COMMENT ON TABLE applied_journey_summaries IS 'Journey summary IDs already merged into journeys; kept for one day';
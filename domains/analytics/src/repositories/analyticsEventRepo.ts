@@ -111,24 +111,137 @@ export async function getEventsByJourneyId(
   return result.rows;
 }
 
+export interface JourneySummary {
+  summaryId: string;
+  journeyId: string;
+  userEcosystemId?: string | null;
+  startedAt: string;
+  endedAt: string;
+  eventCount: number;
+  domainCounts: Record<string, number>;
+  endReason?: string | null;
+}
+
+export interface JourneySummaryResult {
+  upserted: number;
+  duplicates: number;
+}
+
 /**
- * Update or create a journey record.
+ * Upsert closed journey summaries in one transaction.
+ * A summary for a journey that already has a row is added to it: the time span widens,
+ * event and domain counts add up, and the latest close reason wins. Summaries whose
+ * summaryId was applied before are skipped, so a retried batch is never counted twice.
  */
-export async function upsertJourney(
-  journeyId: string,
-  userEcosystemId?: string
-): Promise<void> {
-  const pool = getPool();
+export async function upsertJourneySummaries(
+  summaries: JourneySummary[]
+): Promise<JourneySummaryResult> {
+  if (summaries.length === 0) {
+    return { upserted: 0, duplicates: 0 };
+  }
+  const client = await getPool().connect();
 
-  const query = `
-    INSERT INTO journeys (journey_id, user_ecosystem_id, started_at, event_count)
-    VALUES ($1, $2, NOW(), 1)
-    ON CONFLICT (journey_id) DO UPDATE
-    SET event_count = journeys.event_count + 1,
-        updated_at = NOW()
-  `;
+  try {
+    await client.query("BEGIN");
+
+    // Claim every ID; ones already claimed, earlier or within this batch, come back missing.
+    // A concurrent retry of the same batch waits on the primary key until this commits.
+    const claimed = await client.query<{ summary_id: string }>(
+      `INSERT INTO applied_journey_summaries (summary_id, journey_id)
+       SELECT * FROM unnest($1::varchar[], $2::varchar[])
+       ON CONFLICT (summary_id) DO NOTHING
+       RETURNING summary_id`,
+      [summaries.map((s) => s.summaryId), summaries.map((s) => s.journeyId)]
+    );
+    const fresh = new Set(claimed.rows.map((row) => row.summary_id));
+    const rows = mergeByJourney(summaries.filter((s) => fresh.delete(s.summaryId)));
+
+    if (rows.length > 0) {
+      await client.query(UPSERT_JOURNEYS, [
+        rows.map((r) => r.journeyId),
+        rows.map((r) => r.userEcosystemId || null),
+        rows.map((r) => r.startedAt),
+        rows.map((r) => r.endedAt),
+        rows.map((r) => r.eventCount),
+        rows.map((r) => JSON.stringify(r.domainCounts || {})),
+        rows.map((r) => r.endReason || null),
+      ]);
+    }
+    await client.query(
+      "DELETE FROM applied_journey_summaries WHERE applied_at < NOW() - INTERVAL '1 day'"
+    );
+    await client.query("COMMIT");
 
-  await pool.query(query, [journeyId, userEcosystemId || null]);
+    const result = { upserted: rows.length, duplicates: summaries.length - claimed.rows.length };
+    logger.debug(result, "Journey summaries upserted");
+    return result;
+  } catch (error) {
+    await client.query("ROLLBACK").catch(() => undefined);
+    logger.error({ error, count: summaries.length }, "Failed to upsert journey summaries");
+    throw error;
+  } finally {
+    client.release();
+  }
+}
+
+// ON CONFLICT cannot touch a row twice in one statement, so repeats of a journey are merged first
+function mergeByJourney(summaries: JourneySummary[]): JourneySummary[] {
+  const merged = new Map<string, JourneySummary>();
+  for (const summary of summaries) {
+    const previous = merged.get(summary.journeyId);
+    merged.set(summary.journeyId, previous ? mergeSummaries(previous, summary) : summary);
+  }
+  return [...merged.values()];
+}
+
+const UPSERT_JOURNEYS = `
+  INSERT INTO journeys (
+    journey_id, user_ecosystem_id, started_at, ended_at,
+    event_count, domain_counts, end_reason
+  )
+  SELECT s.journey_id, s.user_ecosystem_id, s.started_at, s.ended_at,
+         s.event_count, s.domain_counts::jsonb, s.end_reason
+  FROM unnest(
+    $1::varchar[], $2::varchar[], $3::timestamptz[], $4::timestamptz[],
+    $5::int[], $6::text[], $7::varchar[]
+  ) AS s(journey_id, user_ecosystem_id, started_at, ended_at,
+         event_count, domain_counts, end_reason)
+  ON CONFLICT (journey_id) DO UPDATE
+  SET user_ecosystem_id = COALESCE(journeys.user_ecosystem_id, EXCLUDED.user_ecosystem_id),
+      started_at = LEAST(journeys.started_at, EXCLUDED.started_at),
+      ended_at = GREATEST(journeys.ended_at, EXCLUDED.ended_at),
+      event_count = journeys.event_count + EXCLUDED.event_count,
+      domain_counts = (
+        SELECT COALESCE(jsonb_object_agg(key, total), '{}'::jsonb)
+        FROM (
+          SELECT key, SUM(value::int) AS total
+          FROM (
+            SELECT * FROM jsonb_each_text(journeys.domain_counts)
+            UNION ALL
+            SELECT * FROM jsonb_each_text(EXCLUDED.domain_counts)
+          ) AS counts
+          GROUP BY key
+        ) AS totals
+      ),
+      end_reason = EXCLUDED.end_reason,
+      updated_at = NOW()
+`;
+
+function mergeSummaries(a: JourneySummary, b: JourneySummary): JourneySummary {
+  const domainCounts = { ...a.domainCounts };
+  for (const [domain, count] of Object.entries(b.domainCounts || {})) {
+    domainCounts[domain] = (domainCounts[domain] || 0) + count;
+  }
+  return {
+    summaryId: a.summaryId,
+    journeyId: a.journeyId,
+    userEcosystemId: a.userEcosystemId || b.userEcosystemId,
+    startedAt: Date.parse(a.startedAt) <= Date.parse(b.startedAt) ? a.startedAt : b.startedAt,
+    endedAt: Date.parse(a.endedAt) >= Date.parse(b.endedAt) ? a.endedAt : b.endedAt,
+    eventCount: a.eventCount + b.eventCount,
+    domainCounts,
+    endReason: b.endReason,
+  };
 }
 
 /**
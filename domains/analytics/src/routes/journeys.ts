@@ -0,0 +1,64 @@
+import type { FastifyInstance, FastifyRequest, FastifyReply } from "fastify";
+import { z } from "zod";
+import { upsertJourneySummaries } from "../repositories/analyticsEventRepo.js";
+import { logger } from "../logger.js";
+
+// Schema for closed journey summaries from the Web BFF sessionizer
+const journeySummarySchema = z.object({
+  // Unique per closed summary; a retried batch repeats it, so it is applied only once
+  summaryId: z.string().min(1).max(100),
+  journeyId: z.string().min(1).max(50),
+  userEcosystemId: z.string().max(50).nullable().optional(),
+  startedAt: z.string().datetime(),
+  endedAt: z.string().datetime(),
+  eventCount: z.number().int().nonnegative(),
+  domainCounts: z.record(z.number().int().nonnegative()),
+  endReason: z.string().max(20).nullable().optional(),
+});
+
+const journeySummaryBatchSchema = z.object({
+  journeys: z.array(journeySummarySchema).max(5000),
+});
+
+interface JourneySummaryBatchRequest {
+  Body: z.infer<typeof journeySummaryBatchSchema>;
+}
+
+export async function journeysRoutes(fastify: FastifyInstance) {
+  /**
+   * POST /api/analytics/journeys/batch
+   * Upsert closed journey summaries into the journeys table.
+   * Answers only once they are stored, so the sender can retry a failed batch; summaries
+   * already applied by an earlier attempt are skipped and reported as duplicates.
+   */
+  fastify.post<JourneySummaryBatchRequest>(
+    "/api/analytics/journeys/batch",
+    async (request: FastifyRequest<JourneySummaryBatchRequest>, reply: FastifyReply) => {
+      const parseResult = journeySummaryBatchSchema.safeParse(request.body);
+      if (!parseResult.success) {
+        logger.warn({ errors: parseResult.error.errors }, "Invalid journey summary batch");
+        return reply.status(400).send({
+          status: "error",
+          message: "Invalid journey summary batch",
+          errors: parseResult.error.errors,
+        });
+      }
+
+      try {
+        const { upserted, duplicates } = await upsertJourneySummaries(parseResult.data.journeys);
+        logger.debug({ upserted, duplicates }, "Journey summaries accepted");
+        return reply.status(202).send({
+          status: "accepted",
+          upserted,
+          duplicates,
+        });
+      } catch (error) {
+        logger.error({ error }, "Error storing journey summaries");
+        return reply.status(500).send({
+          status: "error",
+          message: "Internal server error",
+        });
+      }
+    }
+  );
+}
@@ -2,6 +2,7 @@ import Fastify from "fastify";
 import cors from "@fastify/cors";
 import { logger } from "./logger.js";
 import { eventsRoutes } from "./routes/events.js";
+import { journeysRoutes } from "./routes/journeys.js";
 import { closePool } from "./repositories/analyticsEventRepo.js";
 import { disconnectProducer } from "./kafka/producer.js";
 
@@ -39,6 +40,9 @@ app.get("/ready", async () => {
 // Register analytics event routes
 await app.register(eventsRoutes);
 
+// Register journey summary routes
+await app.register(journeysRoutes);
+
 // Graceful shutdown
 const gracefulShutdown = async (signal: string) => {
   logger.info({ signal }, "Received shutdown signal");
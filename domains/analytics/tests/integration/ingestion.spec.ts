@@ -92,6 +92,57 @@ describe("Analytics Event Ingestion", () => {
   });
 });
 
+describe("Journey Summaries", () => {
+  const summary = {
+    summaryId: `jrn_summary_test_001#${Date.now().toString(36)}-1`,
+    journeyId: "jrn_summary_test_001",
+    userEcosystemId: "usr_test_user_001",
+    startedAt: "2025-01-01T10:00:00Z",
+    endedAt: "2025-01-01T10:05:00Z",
+    eventCount: 4,
+    domainCounts: { user: 2, "credit-card": 2 },
+    endReason: "logged_out",
+  };
+
+  it("should upsert journey summary batches", async () => {
+    const response = await fetch(`${ANALYTICS_URL}/api/analytics/journeys/batch`, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: JSON.stringify({
+        journeys: [summary, { ...summary, summaryId: `${summary.summaryId}0`, eventCount: 1 }],
+      }),
+    });
+
+    expect(response.status).toBe(202);
+    const body = await response.json();
+    expect(body.upserted).toBe(1);
+    expect(body.duplicates).toBe(0);
+  });
+
+  it("should skip summaries applied by an earlier attempt", async () => {
+    const response = await fetch(`${ANALYTICS_URL}/api/analytics/journeys/batch`, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: JSON.stringify({ journeys: [summary] }),
+    });
+
+    expect(response.status).toBe(202);
+    const body = await response.json();
+    expect(body.upserted).toBe(0);
+    expect(body.duplicates).toBe(1);
+  });
+
+  it("should reject summaries without a time span", async () => {
+    const response = await fetch(`${ANALYTICS_URL}/api/analytics/journeys/batch`, {
+      method: "POST",
+      headers: { "Content-Type": "application/json" },
+      body: JSON.stringify({ journeys: [{ ...summary, startedAt: undefined }] }),
+    });
+
+    expect(response.status).toBe(400);
+  });
+});
+
 describe("Health Endpoints", () => {
   it("should return healthy status", async () => {
     const response = await fetch(`${ANALYTICS_URL}/health`);
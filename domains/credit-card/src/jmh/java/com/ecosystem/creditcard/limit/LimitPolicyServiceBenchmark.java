@@ -0,0 +1,63 @@
+package com.ecosystem.creditcard.limit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limit raises below and at the cap, and the eligibility check, with the configured defaults.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LimitPolicyServiceBenchmark {
+
+    private static final BigDecimal BELOW_CAP = new BigDecimal("5000.00");
+    private static final BigDecimal NEAR_CAP = new BigDecimal("49000.00");
+    private static final BigDecimal AT_CAP = new BigDecimal("50000.00");
+
+    private AnnotationConfigApplicationContext context;
+    private LimitPolicyService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Through Spring so the @Value defaults (increment, cap) apply as in the service
+        context = new AnnotationConfigApplicationContext(LimitPolicyService.class);
+        service = context.getBean(LimitPolicyService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public LimitPolicyService.LimitAdjustmentResult raiseLimit() {
+        return service.raiseLimit("usr_bench", BELOW_CAP);
+    }
+
+    @Benchmark
+    public LimitPolicyService.LimitAdjustmentResult raiseLimitToCap() {
+        return service.raiseLimit("usr_bench", NEAR_CAP);
+    }
+
+    @Benchmark
+    public LimitPolicyService.LimitAdjustmentResult raiseLimitAtCap() {
+        return service.raiseLimit("usr_bench", AT_CAP);
+    }
+
+    @Benchmark
+    public boolean isEligibleForIncrease() {
+        return service.isEligibleForIncrease("usr_bench", BELOW_CAP);
+    }
+}
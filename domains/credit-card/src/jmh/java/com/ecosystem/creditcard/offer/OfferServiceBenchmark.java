@@ -0,0 +1,48 @@
+package com.ecosystem.creditcard.offer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-approved offer lookup for regular and admin users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OfferServiceBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private OfferService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(OfferService.class);
+        service = context.getBean(OfferService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<OfferService.CreditCardOffer> getPreApprovedOffer() {
+        return service.getPreApprovedOffer("usr_demo_user_1700000000");
+    }
+
+    @Benchmark
+    public Optional<OfferService.CreditCardOffer> getPreApprovedOfferAdmin() {
+        return service.getPreApprovedOffer("usr_demo_admin_1700000000");
+    }
+}
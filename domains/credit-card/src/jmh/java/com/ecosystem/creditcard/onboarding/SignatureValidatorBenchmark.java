@@ -0,0 +1,30 @@
+package com.ecosystem.creditcard.onboarding;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature validation for an accepted, a rejected and a blank signature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignatureValidatorBenchmark {
+
+    @Param({"  I Agree ", "I do not agree", ""})
+    String signature;
+
+    private final SignatureValidator validator = new SignatureValidator();
+
+    @Benchmark
+    public SignatureValidator.ValidationResult validate() {
+        return validator.validate(signature);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecosystem.creditcard.purchase;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purchase authorization against an available limit, for amounts that fit and amounts that do not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PurchaseSimulatorBenchmark {
+
+    private static final BigDecimal AVAILABLE_LIMIT = new BigDecimal("5000.00");
+
+    private PurchaseSimulator simulator;
+    private BigDecimal[] amounts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulator = new PurchaseSimulator();
+        // The same $10-$500 range simulatePurchase draws from
+        amounts = new BigDecimal[1024];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(10 + ThreadLocalRandom.current().nextDouble() * 490)
+                    .setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    @Benchmark
+    public PurchaseSimulator.PurchaseResult attemptPurchaseApproved() {
+        return simulator.attemptPurchase("usr_bench", AVAILABLE_LIMIT, amount());
+    }
+
+    @Benchmark
+    public PurchaseSimulator.PurchaseResult attemptPurchaseDeclined() {
+        return simulator.attemptPurchase("usr_bench", BigDecimal.ONE, amount());
+    }
+
+    private BigDecimal amount() {
+        return amounts[ThreadLocalRandom.current().nextInt(amounts.length)];
+    }
+}
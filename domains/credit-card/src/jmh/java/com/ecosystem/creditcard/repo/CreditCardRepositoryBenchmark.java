@@ -0,0 +1,76 @@
+package com.ecosystem.creditcard.repo;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account store operations with many accounts, all threads sharing one repository.
+ * Run with -PjmhThreads=1, 4, 16 and 64 to see how they scale under contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreditCardRepositoryBenchmark {
+
+    private static final BigDecimal LIMIT = new BigDecimal("5000.00");
+
+    @Param({"100000"})
+    int accounts;
+
+    private CreditCardRepository repository;
+    private String[] users;
+    private String[] absentUsers;
+    private CreditCardRepository.CreditCardAccount[] saved;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new CreditCardRepository(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), accounts, 0.01);
+        users = new String[accounts];
+        absentUsers = new String[accounts];
+        saved = new CreditCardRepository.CreditCardAccount[accounts];
+        for (int i = 0; i < accounts; i++) {
+            users[i] = "usr_" + i + "_1700000000";
+            absentUsers[i] = "usr_absent_" + i + "_1700000000";
+            saved[i] = repository.createPreApprovedAccount(users[i], LIMIT);
+        }
+    }
+
+    @Benchmark
+    public Optional<CreditCardRepository.CreditCardAccount> findExisting() {
+        return repository.findByUserEcosystemId(users[index()]);
+    }
+
+    /** Mostly answered by the account filter without touching the store. */
+    @Benchmark
+    public Optional<CreditCardRepository.CreditCardAccount> findAbsent() {
+        return repository.findByUserEcosystemId(absentUsers[index()]);
+    }
+
+    @Benchmark
+    public CreditCardRepository.CreditCardAccount save() {
+        return repository.save(saved[index()]);
+    }
+
+    @Benchmark
+    public CreditCardRepository.CreditCardAccount onboard() {
+        return repository.onboard(users[index()], "I agree");
+    }
+
+    private int index() {
+        return ThreadLocalRandom.current().nextInt(accounts);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecosystem.creditcard.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes credit card domain events to Redpanda using the analytics event envelope.
+ * Best-effort: publish failures are logged and never propagated to the caller.
+ */
+@Component
+public class CreditCardEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditCardEventPublisher.class);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${credit-card.events.account-reset-topic:ecosystem.local.credit-card.account.reset}")
+    private String accountResetTopic;
+
+    public CreditCardEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * Publish a single summary event for a bulk account reset.
+     */
+    public void publishAccountsReset(String journeyId, Map<String, Object> summary) {
+        publish(accountResetTopic, "accounts_reset", "account", "reset", journeyId, summary);
+    }
+
+    private void publish(String topic, String eventName, String entity, String action,
+                         String journeyId, Map<String, Object> metadata) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("eventId", "evt_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16));
+        event.put("eventName", eventName);
+        event.put("domain", "credit-card");
+        event.put("entity", entity);
+        event.put("action", action);
+        event.put("timestamp", Instant.now().toString());
+        event.put("journeyId", journeyId != null ? journeyId : "jrn_unknown");
+        event.put("source", "credit-card-service");
+        event.put("metadata", metadata);
+
+        try {
+            kafkaTemplate.send(topic, (String) event.get("journeyId"), event)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            log.warn("Failed to publish {} event: {}", eventName, error.getMessage());
+                        } else {
+                            log.debug("Published {} event to {}", eventName, topic);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} event: {}", eventName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.ecosystem.creditcard.health;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Background dependency probes behind {@code /ready}.
+ *
+ * Probes run on a fixed schedule, each on its own virtual thread with a timeout, and their results
+ * are cached. {@code /ready} only reads the cache, so probe traffic to dependencies is bounded by the
+ * schedule, not by how often the orchestrator asks. A result older than {@code max-staleness}
+ * counts as down. Only critical probes gate readiness; the rest are reported for visibility.
+ */
+@Component
+public class ReadinessProbes {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadinessProbes.class);
+
+    private final List<Probe> probes;
+    private final Map<String, ProbeResult> results = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Duration maxStaleness;
+    private final MeterRegistry meterRegistry;
+    private final KafkaAdmin kafkaAdmin;
+    private volatile AdminClient adminClient;
+
+    private final ExecutorService runners = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("readiness-probes").daemon(true).factory());
+
+    public ReadinessProbes(
+            DataSource dataSource,
+            KafkaAdmin kafkaAdmin,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${readiness.interval:5s}") Duration interval,
+            @Value("${readiness.timeout:2s}") Duration timeout,
+            @Value("${readiness.max-staleness:20s}") Duration maxStaleness) {
+        this.timeout = timeout;
+        this.maxStaleness = maxStaleness;
+        this.meterRegistry = meterRegistry;
+        this.kafkaAdmin = kafkaAdmin;
+
+        // Event publishing is best-effort, so by default a Kafka outage is reported but does not gate readiness
+        this.probes = List.of(
+                new Probe("postgres",
+                        environment.getProperty("readiness.probes.postgres.critical", Boolean.class, true),
+                        () -> checkConnection(dataSource, timeout)),
+                new Probe("kafka",
+                        environment.getProperty("readiness.probes.kafka.critical", Boolean.class, false),
+                        () -> checkKafka(timeout))
+        );
+
+
+        for (Probe probe : probes) {
+            Gauge.builder("readiness.probe.up", results,
+                            r -> r.containsKey(probe.name()) && isFresh(r.get(probe.name())) && r.get(probe.name()).up() ? 1 : 0)
+                    .tag("dependency", probe.name())
+                    .register(meterRegistry);
+        }
+
+        scheduler.scheduleWithFixedDelay(this::runAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Current readiness from cached results; never touches a dependency.
+     */
+    public Readiness current() {
+        boolean ready = true;
+        Map<String, Object> checks = new LinkedHashMap<>();
+        for (Probe probe : probes) {
+            ProbeResult result = results.get(probe.name());
+            String status = result == null ? "pending" : !isFresh(result) ? "stale" : result.up() ? "up" : "down";
+            if (probe.critical() && !"up".equals(status)) {
+                ready = false;
+            }
+            Map<String, Object> check = new LinkedHashMap<>();
+            check.put("status", status);
+            check.put("critical", probe.critical());
+            if (result != null) {
+                check.put("latencyMs", result.latencyMs());
+                check.put("checkedAt", result.checkedAt().toString());
+                if (result.error() != null) {
+                    check.put("error", result.error());
+                }
+            }
+            checks.put(probe.name(), check);
+        }
+        return new Readiness(ready, checks);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        runners.shutdownNow();
+        if (adminClient != null) {
+            adminClient.close(Duration.ofSeconds(1));
+        }
+    }
+
+    private void runAll() {
+        List<Future<?>> running = probes.stream()
+                .<Future<?>>map(probe -> runners.submit(() -> run(probe)))
+                .toList();
+        for (Future<?> future : running) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                log.debug("Readiness probe round interrupted: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void run(Probe probe) {
+        long start = System.nanoTime();
+        String error = null;
+        Future<?> check = runners.submit(() -> {
+            probe.check().run();
+            return null;
+        });
+        try {
+            check.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            check.cancel(true);
+            error = "timed out after " + timeout.toMillis() + "ms";
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("readiness.probe.latency")
+                .tag("dependency", probe.name())
+                .tag("outcome", error == null ? "up" : "down")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        ProbeResult previous = results.put(probe.name(),
+                new ProbeResult(error == null, TimeUnit.NANOSECONDS.toMillis(elapsed), Instant.now(), error));
+        if (previous == null || previous.up() != (error == null)) {
+            log.info("Readiness probe {} is {}{}", probe.name(), error == null ? "up" : "down",
+                    error == null ? "" : " (" + error + ")");
+        }
+    }
+
+    private static void checkConnection(DataSource dataSource, Duration timeout) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid((int) Math.max(1, timeout.toSeconds()))) {
+                throw new IllegalStateException("connection is not valid");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private void checkKafka(Duration timeout) {
+        // One long-lived admin client; the probe only asks for cluster metadata
+        if (adminClient == null) {
+            adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        }
+        try {
+            if (adminClient.describeCluster(new DescribeClusterOptions().timeoutMs((int) timeout.toMillis()))
+                    .nodes().get(timeout.toMillis(), TimeUnit.MILLISECONDS).isEmpty()) {
+                throw new IllegalStateException("no brokers available");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private boolean isFresh(ProbeResult result) {
+        return Duration.between(result.checkedAt(), Instant.now()).compareTo(maxStaleness) <= 0;
+    }
+
+    private record Probe(String name, boolean critical, Runnable check) {}
+
+    private record ProbeResult(boolean up, long latencyMs, Instant checkedAt, String error) {}
+
+    public record Readiness(boolean ready, Map<String, Object> checks) {}
+}
@@ -0,0 +1,28 @@
+package com.ecosystem.creditcard.limit;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one credit limit change.
+ */
+@Name("com.ecosystem.creditcard.LimitAdjustment")
+@Label("Limit Adjustment")
+@Category({"Ecosystem", "Credit Card"})
+@Description("Credit limit raise computed against the policy maximum")
+@StackTrace(false)
+class LimitAdjustmentEvent extends Event {
+
+    @Label("User Ecosystem ID")
+    String userEcosystemId;
+
+    @Label("Old Limit")
+    double oldLimit;
+
+    @Label("New Limit")
+    double newLimit;
+}
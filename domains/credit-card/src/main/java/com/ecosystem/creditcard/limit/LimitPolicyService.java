@@ -32,6 +32,19 @@ public class LimitPolicyService {
      * Calculate the new limit when raising by a specific amount.
      */
     public LimitAdjustmentResult raiseLimit(String userEcosystemId, BigDecimal currentLimit, BigDecimal increment) {
+        LimitAdjustmentEvent event = new LimitAdjustmentEvent();
+        event.begin();
+        LimitAdjustmentResult result = adjust(userEcosystemId, currentLimit, increment);
+        if (event.shouldCommit()) {
+            event.userEcosystemId = userEcosystemId;
+            event.oldLimit = result.oldLimit().doubleValue();
+            event.newLimit = result.newLimit().doubleValue();
+            event.commit();
+        }
+        return result;
+    }
+
+    private LimitAdjustmentResult adjust(String userEcosystemId, BigDecimal currentLimit, BigDecimal increment) {
         BigDecimal newLimit = currentLimit.add(increment);
 
         // Cap at max limit
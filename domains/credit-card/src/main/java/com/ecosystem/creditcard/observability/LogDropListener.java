@@ -0,0 +1,46 @@
+package com.ecosystem.creditcard.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts log events the async appender dropped because its ring buffer was full.
+ * Logback starts before Spring, so counts live in static adders that {@link LoggingMetrics} reads.
+ */
+public class LogDropListener implements AppenderListener<ILoggingEvent> {
+
+    private static final Level[] LEVELS = {Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG, Level.TRACE};
+    private static final LongAdder[] DROPPED = new LongAdder[LEVELS.length];
+
+    static {
+        for (int i = 0; i < DROPPED.length; i++) {
+            DROPPED[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+        DROPPED[index(event.getLevel())].increment();
+    }
+
+    static Level[] levels() {
+        return LEVELS.clone();
+    }
+
+    static long dropped(Level level) {
+        return DROPPED[index(level)].sum();
+    }
+
+    private static int index(Level level) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].levelInt <= level.levelInt) {
+                return i;
+            }
+        }
+        return LEVELS.length - 1;
+    }
+}
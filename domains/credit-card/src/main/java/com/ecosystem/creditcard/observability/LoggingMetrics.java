@@ -0,0 +1,28 @@
+package com.ecosystem.creditcard.observability;
+
+import ch.qos.logback.classic.Level;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the logging pipeline's losses: events dropped by the async appender and
+ * messages suppressed by sampling.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Level level : LogDropListener.levels()) {
+            FunctionCounter.builder("logging.events.dropped", level, LogDropListener::dropped)
+                    .tag("level", level.toString().toLowerCase())
+                    .description("Log events dropped because the async ring buffer was full")
+                    .register(registry);
+        }
+        FunctionCounter.builder("logging.events.sampled_out", this, m -> LogSamplingFilter.sampledOut())
+                .description("Repetitive log messages suppressed by sampling")
+                .register(registry);
+    }
+}
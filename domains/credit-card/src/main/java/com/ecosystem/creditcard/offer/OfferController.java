@@ -0,0 +1,31 @@
+package com.ecosystem.creditcard.offer;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Read-only offer endpoint used by the BFF.
+ */
+@RestController
+@RequestMapping("/api/offers")
+public class OfferController {
+
+    private final OfferService offerService;
+
+    public OfferController(OfferService offerService) {
+        this.offerService = offerService;
+    }
+
+    /**
+     * The user's pre-approved offer, or 404 when there is none.
+     */
+    @GetMapping("/{userEcosystemId}")
+    public ResponseEntity<OfferService.CreditCardOffer> getOffer(@PathVariable String userEcosystemId) {
+        return offerService.getPreApprovedOffer(userEcosystemId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
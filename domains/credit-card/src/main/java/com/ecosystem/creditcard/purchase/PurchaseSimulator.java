@@ -32,6 +32,19 @@ public class PurchaseSimulator {
      * Attempt a purchase for a specific amount.
      */
     public PurchaseResult attemptPurchase(String userEcosystemId, BigDecimal availableLimit, BigDecimal amount) {
+        PurchaseAuthorizationEvent event = new PurchaseAuthorizationEvent();
+        event.begin();
+        PurchaseResult result = authorize(userEcosystemId, availableLimit, amount);
+        if (event.shouldCommit()) {
+            event.userEcosystemId = userEcosystemId;
+            event.amount = amount.doubleValue();
+            event.outcome = result.status() == PurchaseStatus.APPROVED ? "approved" : "declined";
+            event.commit();
+        }
+        return result;
+    }
+
+    private PurchaseResult authorize(String userEcosystemId, BigDecimal availableLimit, BigDecimal amount) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
             return new PurchaseResult(
                     PurchaseStatus.DECLINED,
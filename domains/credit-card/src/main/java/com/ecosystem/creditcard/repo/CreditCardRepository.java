@@ -1,11 +1,17 @@
 package com.ecosystem.creditcard.repo;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,6 +19,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Repository for credit card account data.
  * MVP: Uses in-memory storage. Production would use PostgreSQL.
+ *
+ * A Bloom filter of known user ecosystem IDs sits in front of the store so that
+ * lookups for users without an account are answered without touching it. Against the
+ * in-memory map this saves nothing; it is groundwork for the PostgreSQL store, where
+ * every definite miss is a query not sent.
  */
 @Repository
 public class CreditCardRepository {
@@ -22,17 +33,73 @@ public class CreditCardRepository {
     // In-memory storage for MVP
     private final Map<String, CreditCardAccount> accounts = new ConcurrentHashMap<>();
 
+    private final UserIdBloomFilter knownUsers;
+
+    private final Counter savedQueries;
+    private final Counter falsePositives;
+
+    public CreditCardRepository(
+            MeterRegistry meterRegistry,
+            @Value("${credit-card.repository.account-filter.expected-accounts:100000}") long filterExpectedAccounts,
+            @Value("${credit-card.repository.account-filter.false-positive-rate:0.01}") double filterFalsePositiveRate) {
+        this.knownUsers = new UserIdBloomFilter(filterExpectedAccounts, filterFalsePositiveRate);
+
+        this.savedQueries = Counter.builder("credit_card.account_filter.saved_queries")
+                .description("Account lookups short-circuited as definite misses")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("credit_card.account_filter.false_positives")
+                .description("Account lookups the filter passed through that found nothing")
+                .register(meterRegistry);
+        Gauge.builder("credit_card.account_filter.false_positive_rate", this, CreditCardRepository::observedFalsePositiveRate)
+                .description("Observed share of absent-user lookups the filter failed to reject")
+                .register(meterRegistry);
+        Gauge.builder("credit_card.account_filter.expected_false_positive_rate", this, r -> r.knownUsers.expectedFalsePositiveRate())
+                .description("Theoretical false-positive rate at the current filter saturation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the accounts already in the backing store into the filter. Runs once at startup.
+     * The filter is only ever added to, never swapped, so a save can't be missed.
+     */
+    @PostConstruct
+    void loadAccountFilter() {
+        accounts.keySet().forEach(knownUsers::put);
+        log.info("Loaded account filter with {} known users", accounts.size());
+    }
+
     /**
      * Find account by user ecosystem ID.
      */
     public Optional<CreditCardAccount> findByUserEcosystemId(String userEcosystemId) {
-        return Optional.ofNullable(accounts.get(userEcosystemId));
+        if (!knownUsers.mightContain(userEcosystemId)) {
+            savedQueries.increment();
+            return Optional.empty();
+        }
+
+        CreditCardAccount account = accounts.get(userEcosystemId);
+        if (account == null) {
+            falsePositives.increment();
+        }
+        return Optional.ofNullable(account);
+    }
+
+    /**
+     * List the user ecosystem IDs that start with a prefix.
+     * An empty prefix matches every account.
+     */
+    public List<String> findUserEcosystemIdsByPrefix(String prefix) {
+        return accounts.keySet().stream()
+                .filter(id -> id.startsWith(prefix))
+                .toList();
     }
 
     /**
      * Create or update an account.
      */
     public CreditCardAccount save(CreditCardAccount account) {
+        // Filter first, so a concurrent lookup never sees the account as a definite miss
+        knownUsers.put(account.userEcosystemId());
         accounts.put(account.userEcosystemId(), account);
         log.debug("Saved credit card account for user: {}", account.userEcosystemId());
         return account;
@@ -80,6 +147,11 @@ public class CreditCardRepository {
         return save(updated);
     }
 
+    private double observedFalsePositiveRate() {
+        double misses = savedQueries.count() + falsePositives.count();
+        return misses == 0 ? 0.0 : falsePositives.count() / misses;
+    }
+
     public record CreditCardAccount(
             String accountId,
             String userEcosystemId,
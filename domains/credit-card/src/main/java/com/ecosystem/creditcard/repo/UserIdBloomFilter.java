@@ -0,0 +1,98 @@
+package com.ecosystem.creditcard.repo;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over user ecosystem IDs.
+ * Answers "definitely absent" or "possibly present"; entries cannot be removed.
+ */
+final class UserIdBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    UserIdBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+
+        long bits = (long) Math.ceil(-n * Math.log(p) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+
+        this.words = new AtomicLongArray(wordCount);
+        this.numBits = (long) wordCount << 6;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * LN2));
+    }
+
+    /**
+     * Record an ID as present.
+     */
+    void put(String userEcosystemId) {
+        long hash = hash(userEcosystemId);
+        long h1 = fmix(hash);
+        long h2 = fmix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(index);
+            while ((current & mask) == 0) {
+                long witness = words.compareAndExchange(index, current, current | mask);
+                if (witness == current) {
+                    break;
+                }
+                current = witness;
+            }
+        }
+    }
+
+    /**
+     * False means the ID was never added; true means it probably was.
+     */
+    boolean mightContain(String userEcosystemId) {
+        long hash = hash(userEcosystemId);
+        long h1 = fmix(hash);
+        long h2 = fmix(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Theoretical false-positive probability given the current bit saturation.
+     */
+    double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / numBits, numHashes);
+    }
+
+    private static long hash(String value) {
+        // 64-bit FNV-1a over UTF-16 code units; no allocation
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecosystem.creditcard.reset;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin endpoints for resetting many accounts at once.
+ * This service has no auth and its port is published, so they answer 404 unless
+ * {@code credit-card.reset.admin-endpoint.enabled} is set.
+ */
+@RestController
+@RequestMapping("/api/admin/accounts")
+public class ResetController {
+
+    private static final Logger log = LoggerFactory.getLogger(ResetController.class);
+
+    private final ResetService resetService;
+
+    @Value("${credit-card.reset.stream-timeout-ms:600000}")
+    private long streamTimeoutMs;
+
+    @Value("${credit-card.reset.admin-endpoint.enabled:false}")
+    private boolean enabled;
+
+    public ResetController(ResetService resetService) {
+        this.resetService = resetService;
+    }
+
+    /**
+     * Reset every account in a cohort, streaming progress as Server-Sent Events.
+     * Emits "progress" events per completed batch and a final "summary" event.
+     */
+    @PostMapping(value = "/reset", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> resetCohort(
+            @RequestBody CohortResetRequest request,
+            HttpServletRequest httpRequest) {
+
+        if (!enabled) {
+            return ResponseEntity.notFound().build();
+        }
+
+        int selectors = (request.all() ? 1 : 0)
+                + (request.prefix() != null ? 1 : 0)
+                + (request.userEcosystemIds() != null ? 1 : 0);
+        if (selectors != 1) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of(
+                            "error", "invalid_scope",
+                            "message", "Specify exactly one of 'userEcosystemIds', 'prefix' or 'all'"
+                    ));
+        }
+
+        String journeyId = httpRequest.getHeader("x-journey-id");
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        resetService.resetCohort(
+                        new ResetService.CohortScope(request.userEcosystemIds(), request.prefix(), request.all()),
+                        journeyId,
+                        progress -> send(emitter, "progress", progress))
+                .whenComplete((summary, error) -> {
+                    if (error != null) {
+                        log.error("Cohort reset failed", error);
+                        emitter.completeWithError(error);
+                        return;
+                    }
+                    send(emitter, "summary", summary);
+                    emitter.complete();
+                });
+
+        return ResponseEntity.ok(emitter);
+    }
+
+    private void send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the reset itself keeps running
+            log.debug("Dropped cohort reset {} event: {}", eventName, e.getMessage());
+        }
+    }
+
+    public record CohortResetRequest(
+            List<String> userEcosystemIds,
+            String prefix,
+            boolean all
+    ) {}
+}
@@ -1,12 +1,22 @@
 package com.ecosystem.creditcard.reset;
 
+import com.ecosystem.creditcard.events.CreditCardEventPublisher;
 import com.ecosystem.creditcard.repo.CreditCardRepository;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Service for resetting credit card accounts to initial state.
@@ -17,23 +27,30 @@ public class ResetService {
     private static final Logger log = LoggerFactory.getLogger(ResetService.class);
 
     private final CreditCardRepository repository;
+    private final CreditCardEventPublisher eventPublisher;
+    private final ExecutorService cohortResetExecutor;
+    private final int batchSize;
 
     @Value("${credit-card.defaults.pre-approved-limit:5000.00}")
     private BigDecimal defaultLimit;
 
-    public ResetService(CreditCardRepository repository) {
+    public ResetService(
+            CreditCardRepository repository,
+            CreditCardEventPublisher eventPublisher,
+            @Value("${credit-card.reset.parallelism:8}") int parallelism,
+            @Value("${credit-card.reset.batch-size:500}") int batchSize) {
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, batchSize);
+        this.cohortResetExecutor = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                Thread.ofPlatform().name("cohort-reset-", 0).daemon(true).factory());
     }
 
     /**
      * Reset an account to its initial onboarded state.
      */
     public ResetResult resetAccount(String userEcosystemId) {
-        BigDecimal initialLimit = calculateInitialLimit(userEcosystemId);
-
-        // Create new account with reset state
-        CreditCardRepository.CreditCardAccount newAccount =
-                repository.createPreApprovedAccount(userEcosystemId, initialLimit);
+        BigDecimal initialLimit = applyReset(userEcosystemId);
 
         log.info("Reset account for user {}: limit ${}", userEcosystemId, initialLimit);
 
@@ -45,6 +62,87 @@ public class ResetService {
         );
     }
 
+    /**
+     * Reset every account in a cohort, in parallel batches.
+     * The listener is called once per completed batch; a single summary event is
+     * published at the end instead of one account_reset event per user.
+     */
+    public CompletableFuture<CohortResetSummary> resetCohort(
+            CohortScope scope, String journeyId, Consumer<CohortResetProgress> progressListener) {
+        long startNanos = System.nanoTime();
+        List<String> userEcosystemIds = resolve(scope);
+        int total = userEcosystemIds.size();
+
+        log.info("Starting cohort reset ({}) for {} accounts", scope.describe(), total);
+
+        ProgressTracker tracker = new ProgressTracker(total, progressListener);
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < total; from += batchSize) {
+            List<String> batch = userEcosystemIds.subList(from, Math.min(from + batchSize, total));
+            batches.add(CompletableFuture.runAsync(() -> tracker.batchDone(batch.size(), resetBatch(batch)),
+                    cohortResetExecutor));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                    CohortResetProgress done = tracker.snapshot();
+                    CohortResetSummary summary = new CohortResetSummary(
+                            scope.describe(), total, done.completed() - done.failed(), done.failed(), durationMs);
+
+                    log.info("Cohort reset ({}) finished: {} reset, {} failed in {}ms",
+                            summary.scope(), summary.reset(), summary.failed(), durationMs);
+
+                    eventPublisher.publishAccountsReset(journeyId, Map.of(
+                            "scope", summary.scope(),
+                            "matched", summary.matched(),
+                            "reset", summary.reset(),
+                            "failed", summary.failed(),
+                            "durationMs", summary.durationMs()
+                    ));
+                    return summary;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cohortResetExecutor.shutdown();
+    }
+
+    private List<String> resolve(CohortScope scope) {
+        if (scope.all()) {
+            return repository.findUserEcosystemIdsByPrefix("");
+        }
+        if (scope.prefix() != null) {
+            return repository.findUserEcosystemIdsByPrefix(scope.prefix());
+        }
+        return scope.userEcosystemIds().stream()
+                .distinct()
+                .filter(id -> repository.findByUserEcosystemId(id).isPresent())
+                .toList();
+    }
+
+    private int resetBatch(List<String> batch) {
+        int failed = 0;
+        for (String userEcosystemId : batch) {
+            try {
+                applyReset(userEcosystemId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Failed to reset account for user {}: {}", userEcosystemId, e.getMessage());
+            }
+        }
+        return failed;
+    }
+
+    private BigDecimal applyReset(String userEcosystemId) {
+        BigDecimal initialLimit = calculateInitialLimit(userEcosystemId);
+
+        // Create new account with reset state
+        repository.createPreApprovedAccount(userEcosystemId, initialLimit);
+        return initialLimit;
+    }
+
     private BigDecimal calculateInitialLimit(String userEcosystemId) {
         // Admin users get higher limit
         if (userEcosystemId != null && userEcosystemId.contains("admin")) {
@@ -53,6 +151,56 @@ public class ResetService {
         return defaultLimit;
     }
 
+    /**
+     * Serializes batch completions so progress is reported in increasing order.
+     * Counts are read together under the same lock, so a snapshot is always consistent.
+     */
+    private static final class ProgressTracker {
+        private final int total;
+        private final Consumer<CohortResetProgress> listener;
+        private int completed;
+        private int failed;
+
+        ProgressTracker(int total, Consumer<CohortResetProgress> listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        synchronized void batchDone(int size, int batchFailed) {
+            completed += size;
+            failed += batchFailed;
+            try {
+                listener.accept(snapshot());
+            } catch (RuntimeException e) {
+                // A disconnected listener must not abort the reset
+                log.debug("Cohort reset progress listener failed: {}", e.getMessage());
+            }
+        }
+
+        synchronized CohortResetProgress snapshot() {
+            return new CohortResetProgress(completed, total, failed);
+        }
+    }
+
+    /**
+     * Which accounts a cohort reset applies to: an explicit list, an ID prefix, or all.
+     */
+    public record CohortScope(List<String> userEcosystemIds, String prefix, boolean all) {
+        String describe() {
+            if (all) {
+                return "all";
+            }
+            if (prefix != null) {
+                return "prefix:" + prefix;
+            }
+            return "cohort:" + userEcosystemIds.size();
+        }
+    }
+
+    public record CohortResetProgress(int completed, int total, int failed) {}
+
+    public record CohortResetSummary(String scope, int matched, int reset, int failed, long durationMs) {}
+
     public record ResetResult(
             boolean success,
             BigDecimal creditLimit,
@@ -60,4 +208,3 @@ public class ResetService {
             String message
     ) {}
 }
-
@@ -0,0 +1,67 @@
+package com.ecosystem.user.auth;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Controller for credential verification.
+ * Requests are handled asynchronously, so the servlet thread is released while the hash is checked.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthController.class);
+
+    private final DemoAuthService authService;
+
+    public AuthController(DemoAuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest request) {
+        return authService.authenticate(request.username(), request.password())
+                .<ResponseEntity<?>>thenApply(result -> result
+                        .<ResponseEntity<?>>map(ResponseEntity::ok)
+                        .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                .body(Map.of(
+                                        "error", "invalid_credentials",
+                                        "message", "Invalid username or password"
+                                ))))
+                .exceptionally(error -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof RejectedExecutionException) {
+                        log.warn("Login rejected for user {}: hashing pool saturated", request.username());
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .header(HttpHeaders.RETRY_AFTER, "1")
+                                .body(Map.of(
+                                        "error", "login_busy",
+                                        "message", "Too many concurrent logins, please retry"
+                                ));
+                    }
+                    log.error("Login failed for user {}", request.username(), cause);
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(Map.of(
+                                    "error", "internal_error",
+                                    "message", "An unexpected error occurred"
+                            ));
+                });
+    }
+
+    public record LoginRequest(
+            @NotBlank String username,
+            @NotBlank String password
+    ) {}
+}
@@ -0,0 +1,22 @@
+package com.ecosystem.user.auth;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one login attempt, from user lookup until the password check completes.
+ */
+@Name("com.ecosystem.user.CredentialVerification")
+@Label("Credential Verification")
+@Category({"Ecosystem", "Auth"})
+@Description("Username looked up and password verified on the hashing pool")
+@StackTrace(false)
+class CredentialVerificationEvent extends Event {
+
+    @Label("Outcome")
+    String outcome;
+}
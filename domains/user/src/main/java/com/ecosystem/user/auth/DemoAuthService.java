@@ -1,11 +1,25 @@
 package com.ecosystem.user.auth;
 
+import com.ecosystem.user.repo.CachedUserLookup;
+import com.ecosystem.user.repo.CachedUserLookup.StoredUser;
+import com.ecosystem.user.repo.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Demo authentication service for MVP.
@@ -16,42 +30,122 @@ public class DemoAuthService {
 
     private static final Logger log = LoggerFactory.getLogger(DemoAuthService.class);
 
-    // Demo users - in production, this would come from Supabase
-    private static final Map<String, DemoUser> DEMO_USERS = Map.of(
-            "user", new DemoUser("user", "user", "usr_demo_user_001", "USER"),
-            "admin", new DemoUser("admin", "admin", "usr_demo_admin_001", "ADMIN")
-    );
+    private final CachedUserLookup userLookup;
+    private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final MeterRegistry meterRegistry;
+
+    // Hash upgrades write to the database; keep that I/O off the bcrypt pool.
+    // A full queue drops the upgrade, which the next login retries.
+    private final ThreadPoolExecutor hashUpgrades = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(256),
+            Thread.ofPlatform().name("password-hash-upgrade").daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    public DemoAuthService(CachedUserLookup userLookup, UserRepository userRepository,
+                           PasswordHasher passwordHasher, MeterRegistry meterRegistry) {
+        this.userLookup = userLookup;
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
-     * Authenticate a user with demo credentials.
+     * Authenticate a user. Password verification runs on the hashing pool, so the
+     * returned future completes off the caller's thread. It fails with
+     * {@link RejectedExecutionException} when the pool is saturated.
      */
-    public Optional<AuthResult> authenticate(String username, String password) {
+    public CompletableFuture<Optional<AuthResult>> authenticate(String username, String password) {
         log.debug("Authenticating user: {}", username);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CredentialVerificationEvent event = new CredentialVerificationEvent();
+        event.begin();
 
-        DemoUser user = DEMO_USERS.get(username);
-        if (user == null || !user.password().equals(password)) {
-            log.warn("Authentication failed for user: {}", username);
-            return Optional.empty();
-        }
+        Optional<StoredUser> user = userLookup.findByUsername(username);
+        CompletableFuture<Boolean> verified = user
+                .map(u -> passwordHasher.verify(password, u.passwordHash()))
+                .orElseGet(() -> passwordHasher.verifyDummy(password));
+
+        return verified
+                .thenApply(matches -> {
+                    if (!matches) {
+                        log.warn("Authentication failed for user: {}", username);
+                        return Optional.<AuthResult>empty();
+                    }
 
-        log.info("Authentication successful for user: {}", username);
-        return Optional.of(new AuthResult(user.userEcosystemId(), user.username(), user.role()));
+                    StoredUser found = user.get();
+                    log.info("Authentication successful for user: {}", username);
+                    upgradeHashIfNeeded(found, password);
+                    return Optional.of(new AuthResult(found.userEcosystemId(), found.username(), found.role()));
+                })
+                .whenComplete((result, error) -> {
+                    String outcome = outcome(result, error);
+                    sample.stop(meterRegistry.timer("user.login", "outcome", outcome));
+                    if (event.shouldCommit()) {
+                        event.outcome = outcome;
+                        event.commit();
+                    }
+                });
     }
 
     /**
      * Get user info by ecosystem ID.
      */
     public Optional<UserInfo> getUserByEcosystemId(String userEcosystemId) {
-        return DEMO_USERS.values().stream()
-                .filter(u -> u.userEcosystemId().equals(userEcosystemId))
-                .findFirst()
+        return userLookup.findByUserEcosystemId(userEcosystemId)
                 .map(u -> new UserInfo(u.userEcosystemId(), u.username(), u.role()));
     }
 
-    public record DemoUser(String username, String password, String userEcosystemId, String role) {}
+    /**
+     * Get user info for many ecosystem IDs at once, in request order.
+     * IDs without a matching user are skipped.
+     */
+    public List<UserInfo> getUsersByEcosystemIds(List<String> userEcosystemIds) {
+        Map<String, StoredUser> found = userLookup.findAllByUserEcosystemIds(userEcosystemIds);
+        return userEcosystemIds.stream()
+                .distinct()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(u -> new UserInfo(u.userEcosystemId(), u.username(), u.role()))
+                .toList();
+    }
+
+    /**
+     * Re-hash legacy plaintext or lower-cost hashes after a successful login.
+     * Best-effort: skipped when the hashing pool or the upgrade queue is busy.
+     */
+    private void upgradeHashIfNeeded(StoredUser user, String password) {
+        if (!passwordHasher.needsRehash(user.passwordHash())) {
+            return;
+        }
+
+        passwordHasher.hash(password)
+                .thenAcceptAsync(newHash -> userRepository.findByUsername(user.username()).ifPresent(entity -> {
+                    entity.changePasswordHash(newHash);
+                    userRepository.save(entity);
+                    userLookup.invalidate(user);
+                    log.info("Upgraded password hash for user: {} (cost {})", user.username(), passwordHasher.currentCost());
+                }), hashUpgrades)
+                .exceptionally(e -> {
+                    log.debug("Skipped password hash upgrade for user {}: {}", user.username(), e.getMessage());
+                    return null;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashUpgrades.shutdown();
+    }
+
+    private static String outcome(Optional<AuthResult> result, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            return cause instanceof RejectedExecutionException ? "rejected" : "error";
+        }
+        return result.isPresent() ? "success" : "failure";
+    }
 
     public record AuthResult(String userEcosystemId, String username, String role) {}
 
     public record UserInfo(String userEcosystemId, String username, String role) {}
 }
-
@@ -0,0 +1,174 @@
+package com.ecosystem.user.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt hashing and verification on a dedicated, bounded executor.
+ *
+ * Hashing is deliberately CPU-heavy, so it never runs on request threads. When the
+ * queue is full, work is rejected straight away instead of piling up behind a login burst.
+ * The cost factor for new hashes is tuned at startup to a target verification latency.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private final ThreadPoolExecutor executor;
+    private final Timer verifyTimer;
+    private final Timer hashTimer;
+
+    private final boolean autotune;
+    private final long targetVerifyMs;
+    private final int minCost;
+    private final int maxCost;
+
+    private volatile int cost;
+    private volatile String dummyHash;
+
+    public PasswordHasher(
+            MeterRegistry meterRegistry,
+            @Value("${user.password.hashing.threads:0}") int threads,
+            @Value("${user.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${user.password.hashing.cost:10}") int cost,
+            @Value("${user.password.hashing.autotune.enabled:true}") boolean autotune,
+            @Value("${user.password.hashing.autotune.target-verify-ms:250}") long targetVerifyMs,
+            @Value("${user.password.hashing.autotune.min-cost:10}") int minCost,
+            @Value("${user.password.hashing.autotune.max-cost:14}") int maxCost) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hashing");
+
+        this.verifyTimer = Timer.builder("user.password.verify")
+                .description("Time spent verifying a password hash")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("user.password.hash")
+                .description("Time spent computing a password hash")
+                .register(meterRegistry);
+
+        this.cost = cost;
+        this.autotune = autotune;
+        this.targetVerifyMs = targetVerifyMs;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.dummyHash = BCrypt.hashpw("dummy-password", BCrypt.gensalt(cost));
+    }
+
+    /**
+     * Check a raw password against a stored hash off the request thread.
+     * Rows still holding a legacy plaintext value are compared in constant time.
+     * The future fails with {@link RejectedExecutionException} when the pool is saturated.
+     */
+    public CompletableFuture<Boolean> verify(String rawPassword, String storedHash) {
+        return submit(() -> verifyTimer.record(() -> isBcrypt(storedHash)
+                ? BCrypt.checkpw(rawPassword, storedHash)
+                : MessageDigest.isEqual(
+                        rawPassword.getBytes(StandardCharsets.UTF_8),
+                        storedHash.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Burn one verification against a dummy hash, so unknown usernames take as long as wrong passwords.
+     */
+    public CompletableFuture<Boolean> verifyDummy(String rawPassword) {
+        return verify(rawPassword, dummyHash).thenApply(ignored -> false);
+    }
+
+    /**
+     * Hash a raw password with the current cost factor, off the request thread.
+     */
+    public CompletableFuture<String> hash(String rawPassword) {
+        int currentCost = cost;
+        return submit(() -> hashTimer.record(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(currentCost))));
+    }
+
+    /**
+     * Whether a stored value should be re-hashed: legacy plaintext, or a lower cost factor.
+     * Never downgrades, so replicas that autotuned to different costs don't re-hash each other's work.
+     */
+    public boolean needsRehash(String storedHash) {
+        if (!isBcrypt(storedHash)) {
+            return true;
+        }
+        return Integer.parseInt(storedHash.substring(4, 6)) < cost;
+    }
+
+    public int currentCost() {
+        return cost;
+    }
+
+    /**
+     * Pick the highest cost whose verification stays within the target latency.
+     * BCrypt doubles its work per cost step, so one calibration at the minimum cost is enough.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void autotuneCost() {
+        if (!autotune) {
+            return;
+        }
+        submit(() -> {
+            String calibrationHash = BCrypt.hashpw("calibration", BCrypt.gensalt(minCost));
+            long bestNanos = Long.MAX_VALUE;
+            for (int i = 0; i < 3; i++) {
+                long start = System.nanoTime();
+                BCrypt.checkpw("calibration", calibrationHash);
+                bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            }
+
+            double baseMs = Math.max(bestNanos / 1_000_000.0, 0.001);
+            int steps = (int) Math.floor(Math.log(targetVerifyMs / baseMs) / Math.log(2));
+            int tuned = Math.max(minCost, Math.min(maxCost, minCost + steps));
+
+            cost = tuned;
+            dummyHash = BCrypt.hashpw("dummy-password", BCrypt.gensalt(tuned));
+            log.info("Tuned bcrypt cost to {} (cost {} verifies in {}ms, target {}ms)",
+                    tuned, minCost, String.format("%.1f", baseMs), targetVerifyMs);
+            return tuned;
+        }).exceptionally(e -> {
+            log.warn("Skipped bcrypt cost autotuning: {}", e.getMessage());
+            return cost;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isBcrypt(String storedHash) {
+        return storedHash != null && BCRYPT_HASH.matcher(storedHash).matches();
+    }
+}
@@ -1,6 +1,8 @@
 package com.ecosystem.user.health;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,9 +15,15 @@ import java.util.Map;
 @RestController
 public class HealthController {
 
+    private final ReadinessProbes readinessProbes;
+
     @Value("${spring.application.name:user-service}")
     private String serviceName;
 
+    public HealthController(ReadinessProbes readinessProbes) {
+        this.readinessProbes = readinessProbes;
+    }
+
     @GetMapping("/health")
     public Map<String, Object> health() {
         return Map.of(
@@ -25,14 +33,19 @@ public class HealthController {
         );
     }
 
+    /**
+     * Readiness from the cached dependency probes; answers instantly and never calls a dependency.
+     */
     @GetMapping("/ready")
-    public Map<String, Object> ready() {
-        // TODO: Add database health check
-        return Map.of(
-                "status", "ready",
-                "service", serviceName,
-                "timestamp", Instant.now().toString()
-        );
+    public ResponseEntity<Map<String, Object>> ready() {
+        ReadinessProbes.Readiness readiness = readinessProbes.current();
+        return ResponseEntity.status(readiness.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of(
+                        "status", readiness.ready() ? "ready" : "not_ready",
+                        "service", serviceName,
+                        "checks", readiness.checks(),
+                        "timestamp", Instant.now().toString()
+                ));
     }
 }
 
@@ -0,0 +1,69 @@
+package com.ecosystem.user.lookup;
+
+import com.ecosystem.user.auth.DemoAuthService;
+import com.ecosystem.user.auth.DemoAuthService.UserInfo;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Controller for resolving users by ecosystem ID.
+ */
+@RestController
+@RequestMapping("/api/users")
+public class UserLookupController {
+
+    private static final Logger log = LoggerFactory.getLogger(UserLookupController.class);
+
+    private final DemoAuthService authService;
+
+    @Value("${user.batch-get.max-ids:500}")
+    private int maxIds;
+
+    public UserLookupController(DemoAuthService authService) {
+        this.authService = authService;
+    }
+
+    /**
+     * Resolve many user ecosystem IDs in one round trip.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<?> batchGet(@Valid @RequestBody BatchGetRequest request) {
+        List<String> ids = request.userEcosystemIds();
+
+        if (ids.size() > maxIds) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(
+                            "error", "too_many_ids",
+                            "message", "At most " + maxIds + " userEcosystemIds per request"
+                    ));
+        }
+
+        List<UserInfo> users = authService.getUsersByEcosystemIds(ids);
+        Set<String> resolved = users.stream().map(UserInfo::userEcosystemId).collect(Collectors.toSet());
+        List<String> notFound = ids.stream().distinct().filter(id -> !resolved.contains(id)).toList();
+
+        log.debug("Batch-resolved {} of {} users", users.size(), ids.size());
+
+        return ResponseEntity.ok(new BatchGetResponse(users, notFound));
+    }
+
+    public record BatchGetRequest(
+            @NotNull List<@NotBlank String> userEcosystemIds
+    ) {}
+
+    public record BatchGetResponse(
+            List<UserInfo> users,
+            List<String> notFound
+    ) {}
+}
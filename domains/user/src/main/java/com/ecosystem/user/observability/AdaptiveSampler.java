@@ -0,0 +1,90 @@
+package com.ecosystem.user.observability;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parent-based, ratio-based sampler with a per-service budget of sampled traces per second.
+ *
+ * Child spans follow their parent. A new trace is sampled when its trace ID falls within the
+ * ratio and the budget has room. Spans that are not sampled are still recorded when
+ * {@code recordUnsampled} is set, so {@link ErrorBiasedSpanProcessor} can keep errors and slow spans.
+ */
+final class AdaptiveSampler implements Sampler {
+
+    private final Sampler ratio;
+    private final RateBudget budget;
+    private final SamplingResult unsampled;
+    private final String description;
+
+    AdaptiveSampler(double ratio, double maxTracesPerSecond, boolean recordUnsampled) {
+        this.ratio = Sampler.traceIdRatioBased(ratio);
+        this.budget = new RateBudget(maxTracesPerSecond);
+        this.unsampled = recordUnsampled ? SamplingResult.recordOnly() : SamplingResult.drop();
+        this.description = "AdaptiveSampler{ratio=" + ratio + ", maxTracesPerSecond=" + maxTracesPerSecond
+                + ", recordUnsampled=" + recordUnsampled + "}";
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext, String traceId, String name, SpanKind spanKind,
+                                       Attributes attributes, List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            return parent.isSampled() ? SamplingResult.recordAndSample() : unsampled;
+        }
+
+        SamplingResult byRatio = ratio.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+        if (byRatio.getDecision() == SamplingDecision.RECORD_AND_SAMPLE && budget.tryAcquire()) {
+            return SamplingResult.recordAndSample();
+        }
+        return unsampled;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Lock-free rate limit (GCRA): one AtomicLong holding the theoretical arrival time.
+     * Allows bursts of up to one second's worth; a non-positive rate means unlimited.
+     */
+    static final class RateBudget {
+
+        private static final long BURST_NANOS = 1_000_000_000L;
+
+        private final long intervalNanos;
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime() - BURST_NANOS);
+
+        RateBudget(double perSecond) {
+            this.intervalNanos = perSecond > 0 ? Math.max(1, (long) (1_000_000_000L / perSecond)) : 0;
+        }
+
+        boolean tryAcquire() {
+            if (intervalNanos == 0) {
+                return true;
+            }
+            long now = System.nanoTime();
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long next = Math.max(tat, now) + intervalNanos;
+                if (next - now > BURST_NANOS) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecosystem.user.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback turbo filter that rate-samples repetitive INFO-and-below messages on hot paths.
+ *
+ * Rules are {@code <logger-prefix>=<events per second>} pairs, comma separated; the longest
+ * matching prefix wins. Each message template of a matching logger gets its own budget, so one
+ * noisy line cannot starve another. WARN and ERROR always pass.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private static final int MAX_TEMPLATES_PER_LOGGER = 256;
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private final ConcurrentHashMap<String, LoggerState> loggers = new ConcurrentHashMap<>();
+    private List<Rule> rules = List.of();
+    private String rulesSpec = "";
+
+    /**
+     * Messages suppressed by sampling since startup, across all filter instances.
+     */
+    public static long sampledOut() {
+        return SAMPLED_OUT.sum();
+    }
+
+    public void setRules(String rulesSpec) {
+        this.rulesSpec = rulesSpec == null ? "" : rulesSpec;
+    }
+
+    @Override
+    public void start() {
+        List<Rule> parsed = new ArrayList<>();
+        for (String entry : rulesSpec.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            try {
+                parsed.add(new Rule(entry.substring(0, eq).trim(), Double.parseDouble(entry.substring(eq + 1).trim())));
+            } catch (NumberFormatException e) {
+                addWarn("Ignoring log sampling rule [" + entry.trim() + "]: rate is not a number");
+            }
+        }
+        parsed.sort(Comparator.comparingInt((Rule rule) -> rule.prefix().length()).reversed());
+        rules = List.copyOf(parsed);
+        loggers.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Level checks without a template (isInfoEnabled and friends) and WARN+ are never sampled
+        if (format == null || level == null || level.levelInt > Level.INFO_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        // Disabled levels are rejected later anyway; keep them off the budgets
+        if (level.levelInt < logger.getEffectiveLevel().levelInt) {
+            return FilterReply.NEUTRAL;
+        }
+
+        LoggerState state = loggers.get(logger.getName());
+        if (state == null) {
+            state = loggers.computeIfAbsent(logger.getName(), this::resolve);
+        }
+        if (state.intervalNanos == 0) {
+            return FilterReply.NEUTRAL;
+        }
+
+        AtomicLong budget = state.templates.get(format);
+        if (budget == null) {
+            if (state.templates.size() >= MAX_TEMPLATES_PER_LOGGER) {
+                return FilterReply.NEUTRAL;
+            }
+            budget = state.templates.computeIfAbsent(format, f -> new AtomicLong(System.nanoTime() - 1_000_000_000L));
+        }
+
+        if (tryAcquire(budget, state.intervalNanos)) {
+            return FilterReply.NEUTRAL;
+        }
+        SAMPLED_OUT.increment();
+        return FilterReply.DENY;
+    }
+
+    private LoggerState resolve(String loggerName) {
+        for (Rule rule : rules) {
+            if (loggerName.startsWith(rule.prefix())) {
+                return new LoggerState(rule.perSecond() > 0 ? Math.max(1, (long) (1_000_000_000L / rule.perSecond())) : 0);
+            }
+        }
+        return new LoggerState(0);
+    }
+
+    /**
+     * GCRA: the budget holds the theoretical arrival time; bursts up to one second's worth pass.
+     */
+    private static boolean tryAcquire(AtomicLong theoreticalArrival, long intervalNanos) {
+        long now = System.nanoTime();
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + intervalNanos;
+            if (next - now > 1_000_000_000L) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    private record Rule(String prefix, double perSecond) {}
+
+    private static final class LoggerState {
+
+        private final long intervalNanos;
+        private final ConcurrentHashMap<String, AtomicLong> templates = new ConcurrentHashMap<>();
+
+        LoggerState(long intervalNanos) {
+            this.intervalNanos = intervalNanos;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecosystem.user.observability;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Tracer;
@@ -7,12 +8,13 @@ import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
 import io.opentelemetry.sdk.OpenTelemetrySdk;
 import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
-import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.semconv.ResourceAttributes;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class ObservabilityConfig {
 
@@ -25,8 +27,35 @@ public class ObservabilityConfig {
     @Value("${otel.resource.attributes.deployment.environment:local}")
     private String environment;
 
+    @Value("${tracing.sampling.ratio:0.1}")
+    private double samplingRatio;
+
+    @Value("${tracing.sampling.max-traces-per-second:50}")
+    private double maxTracesPerSecond;
+
+    @Value("${tracing.sampling.keep-errors-and-slow:true}")
+    private boolean keepErrorsAndSlow;
+
+    @Value("${tracing.sampling.slow-threshold:1s}")
+    private Duration slowThreshold;
+
+    @Value("${tracing.sampling.max-kept-per-second:100}")
+    private double maxKeptPerSecond;
+
+    @Value("${tracing.export.max-queue-size:2048}")
+    private int maxQueueSize;
+
+    @Value("${tracing.export.max-batch-size:512}")
+    private int maxBatchSize;
+
+    @Value("${tracing.export.schedule-delay:5s}")
+    private Duration scheduleDelay;
+
+    @Value("${tracing.export.timeout:30s}")
+    private Duration exportTimeout;
+
     @Bean
-    public OpenTelemetry openTelemetry() {
+    public OpenTelemetry openTelemetry(MeterRegistry meterRegistry) {
         Resource resource = Resource.getDefault()
                 .merge(Resource.create(Attributes.of(
                         ResourceAttributes.SERVICE_NAME, serviceName,
@@ -38,13 +67,21 @@ public class ObservabilityConfig {
                 .build();
 
         SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
-                .addSpanProcessor(BatchSpanProcessor.builder(spanExporter).build())
+                .setSampler(new AdaptiveSampler(samplingRatio, maxTracesPerSecond, keepErrorsAndSlow))
+                .addSpanProcessor(new ErrorBiasedSpanProcessor(
+                        spanExporter,
+                        new ErrorBiasedSpanProcessor.ExportSettings(maxQueueSize, maxBatchSize, scheduleDelay, exportTimeout),
+                        slowThreshold,
+                        maxKeptPerSecond,
+                        meterRegistry))
                 .setResource(resource)
                 .build();
 
+        // Not registered as the global instance: instrumentation gets this bean, and a second
+        // application context (as in tests) must be able to build its own
         return OpenTelemetrySdk.builder()
                 .setTracerProvider(tracerProvider)
-                .buildAndRegisterGlobal();
+                .build();
     }
 
     @Bean
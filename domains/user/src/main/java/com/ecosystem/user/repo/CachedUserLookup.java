@@ -0,0 +1,120 @@
+package com.ecosystem.user.repo;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * User lookups by ecosystem ID and username with a bounded near-cache in front of Postgres.
+ *
+ * Entries are evicted by size and TTL. Concurrent misses for the same key share a single
+ * database load, and misses are cached too so unknown IDs do not hammer the database.
+ */
+@Component
+public class CachedUserLookup {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<StoredUser>> byEcosystemId;
+    private final Cache<String, Optional<StoredUser>> byUsername;
+
+    public CachedUserLookup(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.lookup.cache.maximum-size:100000}") long maximumSize,
+            @Value("${user.lookup.cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.byEcosystemId = buildCache(maximumSize, ttl);
+        this.byUsername = buildCache(maximumSize, ttl);
+
+        monitor(meterRegistry, byEcosystemId, "users.by_ecosystem_id");
+        monitor(meterRegistry, byUsername, "users.by_username");
+    }
+
+    /**
+     * Find a user by ecosystem ID.
+     */
+    public Optional<StoredUser> findByUserEcosystemId(String userEcosystemId) {
+        return byEcosystemId.get(userEcosystemId, id ->
+                userRepository.findByUserEcosystemId(id).map(StoredUser::from));
+    }
+
+    /**
+     * Find many users by ecosystem ID. Cached entries are served directly and all
+     * misses are loaded together in a single query. Unknown IDs are absent from the result.
+     */
+    public Map<String, StoredUser> findAllByUserEcosystemIds(Collection<String> userEcosystemIds) {
+        Map<String, Optional<StoredUser>> cached = byEcosystemId.getAll(userEcosystemIds, this::loadAll);
+
+        Map<String, StoredUser> found = new HashMap<>();
+        cached.forEach((id, user) -> user.ifPresent(u -> found.put(id, u)));
+        return found;
+    }
+
+    /**
+     * Find a user by username.
+     */
+    public Optional<StoredUser> findByUsername(String username) {
+        return byUsername.get(username, name ->
+                userRepository.findByUsername(name).map(StoredUser::from));
+    }
+
+    /**
+     * Drop a user from both caches after its row changed.
+     */
+    public void invalidate(StoredUser user) {
+        byEcosystemId.invalidate(user.userEcosystemId());
+        byUsername.invalidate(user.username());
+    }
+
+    private Map<String, Optional<StoredUser>> loadAll(Set<? extends String> missing) {
+        Map<String, Optional<StoredUser>> loaded = new HashMap<>();
+        for (String id : missing) {
+            loaded.put(id, Optional.empty());
+        }
+        for (UserEntity entity : userRepository.findAllByUserEcosystemIds(missing.toArray(String[]::new))) {
+            loaded.put(entity.getUserEcosystemId(), Optional.of(StoredUser.from(entity)));
+        }
+        return loaded;
+    }
+
+    private static Cache<String, Optional<StoredUser>> buildCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static void monitor(MeterRegistry meterRegistry, Cache<String, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        Gauge.builder("user.lookup.cache.hit_ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .description("Share of lookups served from the near-cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Immutable snapshot of a user row, safe to share from the cache.
+     */
+    public record StoredUser(String userEcosystemId, String username, String passwordHash, String role) {
+        static StoredUser from(UserEntity entity) {
+            return new StoredUser(
+                    entity.getUserEcosystemId(),
+                    entity.getUsername(),
+                    entity.getPasswordHash(),
+                    entity.getRole()
+            );
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecosystem.user.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data repository for users. Both lookups are backed by unique indexes.
+ */
+public interface UserRepository extends JpaRepository<UserEntity, Long> {
+
+    Optional<UserEntity> findByUserEcosystemId(String userEcosystemId);
+
+    Optional<UserEntity> findByUsername(String username);
+
+    /**
+     * Resolve many ecosystem IDs in one round trip with a single array-bound query.
+     */
+    @Query(value = "SELECT * FROM users WHERE user_ecosystem_id = ANY(:ids)", nativeQuery = true)
+    List<UserEntity> findAllByUserEcosystemIds(@Param("ids") String[] ids);
+}
@@ -0,0 +1,59 @@
+package com.ecosystem.user.lookup;
+
+import com.ecosystem.user.auth.DemoAuthService;
+import com.ecosystem.user.auth.DemoAuthService.UserInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Batch lookups validate every ID before anything reaches the cache.
+ */
+@WebMvcTest(UserLookupController.class)
+class UserLookupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DemoAuthService authService;
+
+    @Test
+    void batchGet_resolvesKnownIds() throws Exception {
+        when(authService.getUsersByEcosystemIds(any()))
+                .thenReturn(List.of(new UserInfo("usr_demo_user_001", "user", "USER")));
+
+        mockMvc.perform(post("/api/users/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userEcosystemIds\":[\"usr_demo_user_001\",\"usr_missing\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].userEcosystemId").value("usr_demo_user_001"))
+                .andExpect(jsonPath("$.notFound[0]").value("usr_missing"));
+    }
+
+    @Test
+    void batchGet_rejectsNullAndBlankIds() throws Exception {
+        mockMvc.perform(post("/api/users/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userEcosystemIds\":[null]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/users/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userEcosystemIds\":[\"usr_demo_user_001\",\" \"]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(authService);
+    }
+}
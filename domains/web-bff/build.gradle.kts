@@ -2,8 +2,13 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.0"
     id("io.spring.dependency-management") version "1.1.6"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
+// Spring AOT: processAot generates the application context at build time into the boot jar;
+// it is used when the JVM runs with -Dspring.aot.enabled=true
+apply(plugin = "org.springframework.boot.aot")
+
 group = "com.ecosystem"
 version = "0.1.0"
 
@@ -13,6 +18,9 @@ java {
     }
 }
 
+// Keep the Boot-managed OpenTelemetry BOM in line with the explicit 1.44.1 artifacts below
+extra["opentelemetry.version"] = "1.44.1"
+
 repositories {
     mavenCentral()
 }
@@ -22,6 +30,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+
+    // Short-lived response caches
+    implementation("com.github.ben-manes.caffeine:caffeine")
 
     // OpenTelemetry
     implementation("io.opentelemetry:opentelemetry-api:1.44.1")
@@ -35,12 +47,65 @@ dependencies {
     // WebClient for inter-service calls
     implementation("org.springframework.boot:spring-boot-starter-webflux")
 
+    // Request context propagation into Reactor pipelines
+    implementation("io.micrometer:context-propagation")
+
     // Testing
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("io.opentelemetry:opentelemetry-sdk-testing:1.44.1")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    // Benchmarks
+    jmh("io.micrometer:micrometer-registry-prometheus")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+// Micro-benchmarks for hot-path components: gradle jmh (-PjmhIncludes=<regex> to filter)
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    (findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+// Fast startup: gradle cdsArchive unpacks the boot jar into build/cds/application, starts it once
+// with the Spring AOT context and exits after the refresh, and dumps the classes loaded on the way
+// into a class data sharing archive. Run the result with
+//   java -XX:SharedArchiveFile=build/cds/application.jsa -Dspring.aot.enabled=true -jar build/cds/application/app.jar
+// The archive only loads on the JVM that wrote it; the Dockerfile repeats the training run in the runtime image.
+val cdsDir = layout.buildDirectory.dir("cds")
+val cdsJava = javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(21) }
+
+val extractBootJar by tasks.registering(Exec::class) {
+    description = "Unpacks the boot jar into build/cds/application."
+    val bootJar = tasks.bootJar.flatMap { it.archiveFile }
+    val application = cdsDir.map { it.dir("application") }
+    inputs.file(bootJar)
+    outputs.dir(application)
+    doFirst { delete(application) }
+    executable(cdsJava.get().executablePath.asFile)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("-Djarmode=tools", "-jar", bootJar.get().asFile.absolutePath,
+                "extract", "--destination", application.get().asFile.absolutePath, "--application-filename", "app.jar")
+    })
+}
+
+val cdsArchive by tasks.registering(Exec::class) {
+    group = "build"
+    description = "Training run that writes a CDS archive of the AOT-processed application to build/cds."
+    dependsOn(extractBootJar)
+    val application = cdsDir.map { it.dir("application") }
+    val archive = cdsDir.map { it.file("application.jsa") }
+    inputs.dir(application)
+    outputs.file(archive)
+    executable(cdsJava.get().executablePath.asFile)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("-XX:ArchiveClassesAtExit=" + archive.get().asFile.absolutePath,
+                "-Dspring.aot.enabled=true", "-Dspring.context.exit=onRefresh",
+                "-jar", application.get().file("app.jar").asFile.absolutePath)
+    })
+}
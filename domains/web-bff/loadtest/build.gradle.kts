@@ -0,0 +1,46 @@
+plugins {
+    application
+}
+
+group = "com.ecosystem"
+version = "0.1.0"
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    // Latency histograms per journey step
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+
+    // Testing
+    testImplementation(platform("org.junit:junit-bom:5.11.3"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testImplementation("org.assertj:assertj-core:3.26.3")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+application {
+    mainClass = "com.ecosystem.webbff.loadtest.LoadTest"
+    applicationDefaultJvmArgs = listOf("-Xms1g", "-Xmx1g")
+}
+
+tasks.withType<Test> {
+    useJUnitPlatform()
+}
+
+// Launches the freshly built BFF against in-process stubs unless --target points at a running one
+tasks.named<JavaExec>("run") {
+    val bootJar = rootProject.tasks.named<Jar>("bootJar")
+    dependsOn(bootJar)
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("--bff-jar=" + bootJar.get().archiveFile.get().asFile.absolutePath)
+    })
+    workingDir = rootProject.projectDir
+}
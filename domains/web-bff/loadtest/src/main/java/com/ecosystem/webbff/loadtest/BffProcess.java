@@ -0,0 +1,107 @@
+package com.ecosystem.webbff.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The BFF under test as a child JVM, wired to the stub services.
+ *
+ * Remote offer reads and the pre-approved offer flag are switched on so every journey crosses the
+ * credit-card client. Per-route rate limits are raised to their maximum, because all virtual users
+ * share the two demo accounts and one client address and would otherwise measure the limiter rather
+ * than the BFF; the buckets are still checked on every request.
+ */
+final class BffProcess implements AutoCloseable {
+
+    private static final List<String> RATE_LIMITED_ROUTES =
+            List.of("login", "simulate-purchase", "raise-limit", "onboarding-sign");
+
+    private final Process process;
+    private final String baseUrl;
+
+    private BffProcess(Process process, String baseUrl) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+    }
+
+    static BffProcess launch(LoadTestOptions options, StubServices stubs, Path log) throws IOException {
+        if (options.bffJar() == null || !Files.isRegularFile(options.bffJar())) {
+            throw new IllegalArgumentException("BFF jar not found: " + options.bffJar()
+                    + " (build it with gradle bootJar, or pass --target=<url> of a running BFF)");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(options.bffJvmArgs().trim().split("\\s+")));
+        command.add("-jar");
+        command.add(options.bffJar().toString());
+        command.add("--server.port=" + options.bffPort());
+        command.add("--services.user.url=" + stubs.userUrl());
+        command.add("--services.credit-card.url=" + stubs.creditCardUrl());
+        command.add("--services.analytics.url=" + stubs.analyticsUrl());
+        command.add("--credit-card.remote-reads.enabled=true");
+        command.add("--feature.flags.credit-cards.pre-approved-offers=true");
+        for (String route : RATE_LIMITED_ROUTES) {
+            command.add("--rate-limit.routes." + route + ".capacity=16000");
+            command.add("--rate-limit.routes." + route + ".refill-per-second=16000");
+        }
+
+        Files.createDirectories(log.getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new BffProcess(process, "http://127.0.0.1:" + options.bffPort());
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Poll {@code /health} until the BFF answers, or fail once the timeout passes or the process exits.
+     */
+    void awaitHealthy(Duration timeout) throws InterruptedException {
+        awaitHealthy(baseUrl, timeout, process);
+    }
+
+    static void awaitHealthy(String baseUrl, Duration timeout, Process process) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (process != null && !process.isAlive()) {
+                throw new IllegalStateException("BFF exited with code " + process.exitValue() + " before becoming healthy");
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(baseUrl + " did not become healthy within " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(20, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
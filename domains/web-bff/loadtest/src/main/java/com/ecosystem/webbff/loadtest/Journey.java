@@ -0,0 +1,130 @@
+package com.ecosystem.webbff.loadtest;
+
+import com.ecosystem.webbff.loadtest.JourneyStats.Step;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The web shell's happy path against the BFF:
+ * login, offer, onboarding sign, N simulate-purchases, raise-limit, reset, logout.
+ *
+ * Each request is timed as a step. The journey is timed from its intended start, so in the open model
+ * a backed-up BFF shows up as journey latency instead of silently lowering the arrival rate.
+ * A journey stops at its first failed step.
+ */
+final class Journey {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final String[] USERS = {"user", "admin"};
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestOptions options;
+    private final JourneyStats stats;
+    private final AtomicLong sequence = new AtomicLong();
+
+    Journey(HttpClient client, String baseUrl, LoadTestOptions options, JourneyStats stats) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.stats = stats;
+    }
+
+    /**
+     * Run one journey that the workload scheduled for {@code intendedStartNanos}.
+     */
+    void run(long intendedStartNanos) {
+        long n = sequence.incrementAndGet();
+        String journeyId = "jrn_loadtest_" + n;
+        String username = USERS[(int) (n % USERS.length)];
+
+        try {
+            String login = send(Step.LOGIN, journeyId, null, "POST", "/api/user/session/login",
+                    "{\"username\":\"" + username + "\",\"password\":\"" + username + "\"}");
+            Matcher token = TOKEN.matcher(login);
+            if (!token.find()) {
+                stats.error(Step.LOGIN, 200);
+                throw new StepFailedException(200);
+            }
+            String bearer = token.group(1);
+
+            send(Step.OFFER, journeyId, bearer, "GET", "/api/credit-card/offer", null);
+            send(Step.ONBOARDING_SIGN, journeyId, bearer, "POST", "/api/credit-card/onboarding/sign",
+                    "{\"signature\":\"I agree\"}");
+            for (int i = 0; i < options.purchases(); i++) {
+                send(Step.SIMULATE_PURCHASE, journeyId, bearer, "POST", "/api/credit-card/actions/simulate-purchase", "");
+            }
+            send(Step.RAISE_LIMIT, journeyId, bearer, "POST", "/api/credit-card/actions/raise-limit", "");
+            send(Step.RESET, journeyId, bearer, "POST", "/api/credit-card/actions/reset", "");
+            send(Step.LOGOUT, journeyId, bearer, "POST", "/api/user/session/logout", "");
+
+            stats.record(Step.JOURNEY, System.nanoTime() - intendedStartNanos);
+        } catch (StepFailedException e) {
+            stats.error(Step.JOURNEY, e.status);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String send(Step step, String journeyId, String bearer, String method, String path, String body)
+            throws StepFailedException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(options.requestTimeout())
+                .header("x-journey-id", journeyId)
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        if (bearer != null) {
+            request.header("Authorization", "Bearer " + bearer);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            stats.error(step, 0);
+            throw new StepFailedException(0);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (response.statusCode() / 100 != 2) {
+            stats.error(step, response.statusCode());
+            throw new StepFailedException(response.statusCode());
+        }
+        stats.record(step, elapsed);
+        think();
+        return response.body();
+    }
+
+    private void think() throws InterruptedException {
+        Duration thinkTime = options.thinkTime();
+        if (!thinkTime.isZero()) {
+            Thread.sleep(thinkTime);
+        }
+    }
+
+    /**
+     * Ends the journey at a failed step; no stack trace, failures are expected under overload.
+     */
+    private static final class StepFailedException extends Exception {
+
+        final int status;
+
+        StepFailedException(int status) {
+            super(null, null, false, false);
+            this.status = status;
+        }
+    }
+}
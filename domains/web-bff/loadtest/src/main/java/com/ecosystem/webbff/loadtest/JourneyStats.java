@@ -0,0 +1,121 @@
+package com.ecosystem.webbff.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per journey step, safe to record into from any number of
+ * virtual users. Values are kept in microseconds with three significant digits.
+ */
+final class JourneyStats {
+
+    /**
+     * One request of the journey, plus the journey as a whole.
+     */
+    enum Step {
+        LOGIN("login"),
+        OFFER("offer"),
+        ONBOARDING_SIGN("onboarding-sign"),
+        SIMULATE_PURCHASE("simulate-purchase"),
+        RAISE_LIMIT("raise-limit"),
+        RESET("reset"),
+        LOGOUT("logout"),
+        JOURNEY("journey");
+
+        final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Map<Step, Recorder> recorders = new EnumMap<>(Step.class);
+    private final Map<Step, LongAdder> errors = new EnumMap<>(Step.class);
+    private final Map<Step, LongAdder> rateLimited = new EnumMap<>(Step.class);
+    private final LongAdder skippedArrivals = new LongAdder();
+
+    JourneyStats() {
+        for (Step step : Step.values()) {
+            recorders.put(step, new Recorder(3));
+            errors.put(step, new LongAdder());
+            rateLimited.put(step, new LongAdder());
+        }
+    }
+
+    void record(Step step, long nanos) {
+        recorders.get(step).recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * A failed request; status 0 means it never got a response.
+     */
+    void error(Step step, int status) {
+        (status == 429 ? rateLimited : errors).get(step).increment();
+    }
+
+    /**
+     * An open-model arrival that was not started because too many journeys were still running.
+     */
+    void skippedArrival() {
+        skippedArrivals.increment();
+    }
+
+    /**
+     * Drop everything recorded so far, at the end of the warm-up.
+     */
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        rateLimited.values().forEach(LongAdder::reset);
+        skippedArrivals.reset();
+    }
+
+    /**
+     * Print a per-step table and write one {@code <step>.hgrm} percentile file per step (values in ms).
+     */
+    void report(Duration measured, Path output, PrintStream out) throws IOException {
+        Files.createDirectories(output);
+        double seconds = measured.toNanos() / 1e9;
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%-18s %9s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "step", "count", "per-sec", "errors", "429s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Step step : Step.values()) {
+            Histogram histogram = recorders.get(step).getIntervalHistogram();
+            table.append(String.format(Locale.ROOT, "%-18s %9d %9.1f %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    step.label,
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    errors.get(step).sum(),
+                    rateLimited.get(step).sum(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())));
+
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(output.resolve(step.label + ".hgrm")))) {
+                histogram.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        table.append(String.format(Locale.ROOT, "skipped arrivals: %d%n", skippedArrivals.sum()));
+
+        out.print(table);
+        Files.writeString(output.resolve("summary.txt"), table);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
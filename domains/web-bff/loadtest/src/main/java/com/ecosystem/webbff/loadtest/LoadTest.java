@@ -0,0 +1,79 @@
+package com.ecosystem.webbff.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journey load test for the web-bff.
+ *
+ * Starts stub user, credit-card and analytics services in-process, launches the BFF jar against
+ * them (or targets {@code --target}), warms up, then measures for {@code --duration} and reports
+ * latency percentiles per journey step. See {@link LoadTestOptions} for the options.
+ *
+ * <pre>
+ * gradle :loadtest:run --args="--model=open --rate=200 --duration=2m"
+ * gradle :loadtest:run --args="--model=closed --users=100 --think-time=50ms"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        try (StubServices stubs = new StubServices(options.stubLatency())) {
+            if (options.target() != null) {
+                BffProcess.awaitHealthy(options.target(), Duration.ofSeconds(30), null);
+                run(options, options.target(), stubs);
+                return;
+            }
+            try (BffProcess bff = BffProcess.launch(options, stubs, options.output().resolve("bff.log"))) {
+                System.out.println("Launching " + options.bffJar() + " on port " + options.bffPort()
+                        + " (log: " + options.output().resolve("bff.log") + ")");
+                bff.awaitHealthy(Duration.ofSeconds(120));
+                run(options, bff.baseUrl(), stubs);
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, String baseUrl, StubServices stubs) throws Exception {
+        JourneyStats stats = new JourneyStats();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Journey journey = new Journey(client, baseUrl, options, stats);
+
+        System.out.printf("%s model against %s: %s, warm-up %s, measuring %s, %d purchases per journey%n",
+                options.model().name().toLowerCase(), baseUrl,
+                options.model() == LoadTestOptions.Model.OPEN
+                        ? options.rate() + " journeys/s"
+                        : options.users() + " users",
+                options.warmup(), options.duration(), options.purchases());
+
+        // Samples from the warm-up (JIT, pools, caches) are discarded when measuring starts
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+        timer.schedule(() -> {
+            stats.reset();
+            System.out.println("Warm-up done, measuring");
+        }, options.warmup().toNanos(), TimeUnit.NANOSECONDS);
+
+        long end = System.nanoTime() + options.warmup().toNanos() + options.duration().toNanos();
+        if (options.model() == LoadTestOptions.Model.OPEN) {
+            Workload.open(options.rate(), options.maxInFlight(), end, journey::run, stats);
+        } else {
+            Workload.closed(options.users(), end, journey::run);
+        }
+        timer.shutdownNow();
+
+        System.out.println();
+        stats.report(options.duration(), options.output(), System.out);
+        System.out.printf("stub requests: %d, percentile files in %s%n", stubs.requests(), options.output().toAbsolutePath());
+    }
+}
@@ -0,0 +1,108 @@
+package com.ecosystem.webbff.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, given as {@code --name=value}. When an option is repeated the first value wins,
+ * so arguments from {@code --args} take precedence over the defaults the Gradle task appends.
+ *
+ * @param target         base URL of a running BFF; when absent the BFF jar is launched against the stubs
+ * @param bffJar         BFF jar to launch when no target is given
+ * @param bffPort        port for the launched BFF
+ * @param bffJvmArgs     JVM options for the launched BFF
+ * @param model          open (fixed arrival rate) or closed (fixed number of looping users)
+ * @param rate           journeys started per second in the open model
+ * @param users          concurrent virtual users in the closed model
+ * @param maxInFlight    open model: arrivals beyond this many running journeys are counted and skipped
+ * @param duration       measured run length
+ * @param warmup         run length before measuring starts; its samples are discarded
+ * @param purchases      simulate-purchase calls per journey
+ * @param thinkTime      pause between steps
+ * @param requestTimeout per-request timeout
+ * @param stubLatency    added latency of every stub response
+ * @param output         directory for the .hgrm percentile files and the summary
+ */
+public record LoadTestOptions(
+        String target,
+        Path bffJar,
+        int bffPort,
+        String bffJvmArgs,
+        Model model,
+        double rate,
+        int users,
+        int maxInFlight,
+        Duration duration,
+        Duration warmup,
+        int purchases,
+        Duration thinkTime,
+        Duration requestTimeout,
+        Duration stubLatency,
+        Path output
+) {
+
+    public enum Model {
+        OPEN,
+        CLOSED
+    }
+
+    private static final Set<String> KNOWN = Set.of(
+            "target", "bff-jar", "bff-port", "bff-jvm-args", "model", "rate", "users", "max-in-flight",
+            "duration", "warmup", "purchases", "think-time", "request-timeout", "stub-latency", "output");
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!KNOWN.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + KNOWN);
+            }
+            values.putIfAbsent(name, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String bffJar = values.get("bff-jar");
+        return new LoadTestOptions(
+                values.get("target"),
+                bffJar != null ? Path.of(bffJar) : null,
+                Integer.parseInt(values.getOrDefault("bff-port", "18080")),
+                values.getOrDefault("bff-jvm-args", "-Xms512m -Xmx512m"),
+                Model.valueOf(values.getOrDefault("model", "open").toUpperCase()),
+                Double.parseDouble(values.getOrDefault("rate", "50")),
+                Integer.parseInt(values.getOrDefault("users", "50")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "15s")),
+                Integer.parseInt(values.getOrDefault("purchases", "3")),
+                duration(values.getOrDefault("think-time", "0ms")),
+                duration(values.getOrDefault("request-timeout", "5s")),
+                duration(values.getOrDefault("stub-latency", "2ms")),
+                Path.of(values.getOrDefault("output", "build/loadtest"))
+        );
+    }
+
+    /**
+     * Parse a duration such as {@code 250ms}, {@code 30s}, {@code 2m} or an ISO-8601 {@code PT30S}.
+     */
+    static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.startsWith("pt")) {
+            return Duration.parse(value);
+        }
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        long amount = Long.parseLong(v.substring(0, v.length() - 1));
+        return switch (v.charAt(v.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+}
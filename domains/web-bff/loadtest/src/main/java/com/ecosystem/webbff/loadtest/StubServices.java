@@ -0,0 +1,118 @@
+package com.ecosystem.webbff.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-ins for the user, credit-card and analytics services, each on an ephemeral
+ * loopback port. Every exchange runs on its own virtual thread and answers after a fixed latency,
+ * so the stubs never become the bottleneck and a run needs nothing but this box.
+ */
+final class StubServices implements AutoCloseable {
+
+    private final Duration latency;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder requests = new LongAdder();
+
+    private final HttpServer user;
+    private final HttpServer creditCard;
+    private final HttpServer analytics;
+
+    StubServices(Duration latency) throws IOException {
+        this.latency = latency;
+
+        this.user = start();
+        user.createContext("/api/users/batch-get", json(200, "{\"users\":[],\"notFound\":[]}"));
+
+        this.creditCard = start();
+        creditCard.createContext("/api/offers/", exchange -> {
+            String userEcosystemId = exchange.getRequestURI().getPath().substring("/api/offers/".length());
+            respond(exchange, 200, "{\"offerId\":\"offer_" + userEcosystemId
+                    + "\",\"preApprovedLimit\":5000.00,\"status\":\"PRE_APPROVED\"}");
+        });
+
+        this.analytics = start();
+        analytics.createContext("/api/analytics/events", json(202, "{\"status\":\"accepted\"}"));
+        // Closed journey summaries from the BFF's sessionizer
+        analytics.createContext("/api/analytics/journeys/batch",
+                json(202, "{\"status\":\"accepted\",\"upserted\":0,\"duplicates\":0}"));
+    }
+
+    String userUrl() {
+        return url(user);
+    }
+
+    String creditCardUrl() {
+        return url(creditCard);
+    }
+
+    String analyticsUrl() {
+        return url(analytics);
+    }
+
+    /**
+     * Requests served by all stubs so far.
+     */
+    long requests() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() {
+        user.stop(0);
+        creditCard.stop(0);
+        analytics.stop(0);
+        executor.close();
+    }
+
+    private HttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        // Readiness probes in the BFF poll /health on every downstream
+        server.createContext("/health", json(200, "{\"status\":\"UP\"}"));
+        server.start();
+        return server;
+    }
+
+    private HttpHandler json(int status, String body) {
+        return exchange -> respond(exchange, status, body);
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        requests.increment();
+        try (exchange; InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+            pause();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private void pause() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String url(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+}
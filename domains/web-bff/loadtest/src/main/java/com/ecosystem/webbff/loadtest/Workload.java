@@ -0,0 +1,75 @@
+package com.ecosystem.webbff.loadtest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives journeys on virtual threads until a deadline, then waits for the running ones to finish.
+ */
+final class Workload {
+
+    /**
+     * One journey, told when the workload meant it to start.
+     */
+    @FunctionalInterface
+    interface JourneyRunner {
+        void run(long intendedStartNanos);
+    }
+
+    private Workload() {
+    }
+
+    /**
+     * Open model: journeys start on a fixed schedule of {@code rate} per second whatever the BFF's
+     * response times, like independent users arriving. Start times are computed from the schedule,
+     * never from the previous start, so a late wake-up does not lower the rate. At most
+     * {@code maxInFlight} journeys run at once; arrivals beyond that are counted as skipped.
+     */
+    static void open(double rate, int maxInFlight, long endNanos, JourneyRunner runner, JourneyStats stats) {
+        long periodNanos = Math.max(1, (long) (1_000_000_000L / rate));
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            long start = System.nanoTime();
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * periodNanos;
+                if (intendedStart - endNanos >= 0) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    stats.skippedArrival();
+                    continue;
+                }
+                users.execute(() -> {
+                    try {
+                        runner.run(intendedStart);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Closed model: {@code users} virtual users each run journeys back to back, so throughput
+     * follows the BFF's response times.
+     */
+    static void closed(int users, long endNanos, JourneyRunner runner) {
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < users; u++) {
+                pool.execute(() -> {
+                    while (System.nanoTime() - endNanos < 0 && !Thread.currentThread().isInterrupted()) {
+                        runner.run(System.nanoTime());
+                    }
+                });
+            }
+        }
+    }
+}
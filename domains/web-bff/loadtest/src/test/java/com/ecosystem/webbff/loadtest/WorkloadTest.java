@@ -0,0 +1,81 @@
+package com.ecosystem.webbff.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The open model keeps its arrival schedule whatever the journeys do; the closed model loops a fixed
+ * number of users.
+ */
+class WorkloadTest {
+
+    @Test
+    void open_startsJourneysOnFixedSchedule() {
+        List<Long> intendedStarts = new CopyOnWriteArrayList<>();
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+
+        // Journeys slower than the arrival period must not slow the arrivals down
+        Workload.open(100, 1000, end, intendedStart -> {
+            intendedStarts.add(intendedStart);
+            sleep(50);
+        }, new JourneyStats());
+
+        assertThat(intendedStarts).hasSize(50);
+        List<Long> sorted = intendedStarts.stream().sorted().toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(sorted.get(i) - sorted.get(i - 1)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    @Test
+    void open_skipsArrivalsBeyondMaxInFlight() {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            sleep(300);
+            release.countDown();
+        });
+        Workload.open(100, 5, end, intendedStart -> {
+            started.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, new JourneyStats());
+
+        assertThat(started.get()).isEqualTo(5);
+        assertThat(releaser.isAlive()).isFalse();
+    }
+
+    @Test
+    void closed_loopsEachUserUntilDeadline() {
+        AtomicInteger journeys = new AtomicInteger();
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+
+        Workload.closed(4, end, intendedStart -> {
+            journeys.incrementAndGet();
+            sleep(20);
+        });
+
+        // 4 users * roughly 10 back-to-back journeys of 20ms each
+        assertThat(journeys.get()).isBetween(20, 44);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,2 +1,4 @@
 rootProject.name = "web-bff"
 
+// Journey load generator: gradle :loadtest:run --args="--model=open --rate=100 --duration=2m"
+include("loadtest")
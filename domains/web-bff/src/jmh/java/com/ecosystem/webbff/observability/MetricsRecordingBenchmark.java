@@ -0,0 +1,84 @@
+package com.ecosystem.webbff.observability;
+
+import com.ecosystem.webbff.creditcard.CreditCardMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request recording cost with the production histogram settings: percentile histogram
+ * buckets between 1ms and 10s plus the default SLO bounds, exported through Prometheus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsRecordingBenchmark {
+
+    private static final String[] URIS = {
+            "/api/credit-card/account", "/api/credit-card/offer", "/api/dashboard", "/api/credit-card/actions/simulate-purchase"
+    };
+
+    private PrometheusMeterRegistry registry;
+    private Timer routeTimer;
+    private CreditCardMetrics creditCardMetrics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        routeTimer = routeTimer(URIS[0]);
+        creditCardMetrics = new CreditCardMetrics(registry);
+    }
+
+    /** Baseline: the clock reads every timed request pays. */
+    @Benchmark
+    public long clock() {
+        return System.nanoTime() - System.nanoTime();
+    }
+
+    @Benchmark
+    public void timerRecord() {
+        routeTimer.record(ThreadLocalRandom.current().nextLong(1_000_000, 400_000_000), TimeUnit.NANOSECONDS);
+    }
+
+    /** What the server observation does per request: resolve the timer by tags, then record. */
+    @Benchmark
+    public void timerLookupAndRecord() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        routeTimer(URIS[random.nextInt(URIS.length)]).record(random.nextLong(1_000_000, 400_000_000), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void timerLookupAndRecordContended() {
+        timerLookupAndRecord();
+    }
+
+    @Benchmark
+    public void domainCounter() {
+        creditCardMetrics.purchase(ThreadLocalRandom.current().nextBoolean());
+    }
+
+    private Timer routeTimer(String uri) {
+        return Timer.builder("http.server.requests")
+                .tags("method", "GET", "uri", uri, "status", "200", "outcome", "SUCCESS", "exception", "none")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .serviceLevelObjectives(Duration.ofMillis(25), Duration.ofMillis(50), Duration.ofMillis(100),
+                        Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1))
+                .register(registry);
+    }
+}
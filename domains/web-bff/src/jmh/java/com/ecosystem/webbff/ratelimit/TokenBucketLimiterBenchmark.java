@@ -0,0 +1,69 @@
+package com.ecosystem.webbff.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one rate-limit decision with many live users, single-threaded and contended.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenBucketLimiterBenchmark {
+
+    @Param({"100000"})
+    int users;
+
+    private TokenBucketLimiter limiter;
+    private String[] keys;
+    private long originNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new TokenBucketLimiter("bench", 30, 10.0);
+        keys = new String[users];
+        originNanos = System.nanoTime();
+        for (int i = 0; i < users; i++) {
+            keys[i] = "usr_" + i;
+            limiter.tryAcquire(keys[i], now());
+        }
+    }
+
+    /** Baseline: the clock read every decision pays. */
+    @Benchmark
+    public long clock() {
+        return now();
+    }
+
+    @Benchmark
+    public long acquire() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(users)], now());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long acquireContended() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(users)], now());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long acquireHotKey() {
+        return limiter.tryAcquire(keys[0], now());
+    }
+
+    private long now() {
+        return (System.nanoTime() - originNanos) / 1_000_000;
+    }
+}
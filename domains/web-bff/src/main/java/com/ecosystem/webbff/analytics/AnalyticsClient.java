@@ -1,11 +1,12 @@
 package com.ecosystem.webbff.analytics;
 
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.resilience.Bulkhead;
+import com.ecosystem.webbff.resilience.BulkheadRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Map;
@@ -13,6 +14,8 @@ import java.util.Map;
 /**
  * Client for sending analytics events to the Analytics service.
  * Uses best-effort delivery with buffering for resilience.
+ * Sends hold a slot of the analytics bulkhead but no thread, so a slow Analytics service only ever
+ * backs up its own slots.
  */
 @Component
 public class AnalyticsClient {
@@ -20,15 +23,13 @@ public class AnalyticsClient {
     private static final Logger log = LoggerFactory.getLogger(AnalyticsClient.class);
 
     private final WebClient webClient;
-    private final String analyticsServiceUrl;
+    private final Bulkhead bulkhead;
 
     public AnalyticsClient(
-            WebClient.Builder webClientBuilder,
-            @Value("${services.analytics.url:http://localhost:8090}") String analyticsServiceUrl) {
-        this.analyticsServiceUrl = analyticsServiceUrl;
-        this.webClient = webClientBuilder
-                .baseUrl(analyticsServiceUrl)
-                .build();
+            DownstreamClients downstreamClients,
+            BulkheadRegistry bulkheads) {
+        this.webClient = downstreamClients.get("analytics");
+        this.bulkhead = bulkheads.get("analytics");
     }
 
     /**
@@ -38,16 +39,25 @@ public class AnalyticsClient {
      * @param event The analytics event to send
      */
     public void sendEvent(AnalyticsEvent event) {
-        webClient.post()
+        AnalyticsForwardEvent forward = new AnalyticsForwardEvent();
+        forward.begin();
+        bulkhead.execute(() -> webClient.post()
                 .uri("/api/analytics/events")
                 .bodyValue(event)
                 .retrieve()
-                .bodyToMono(Void.class)
-                .timeout(Duration.ofSeconds(5))
-                .doOnSuccess(v -> log.debug("Analytics event sent: {}", event.eventName()))
-                .doOnError(e -> log.warn("Failed to send analytics event: {} - {}", event.eventName(), e.getMessage()))
-                .onErrorResume(e -> Mono.empty()) // Best-effort: don't fail the request
-                .subscribe();
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(5)))
+                .subscribe(
+                        response -> {},
+                        e -> {
+                            forward.complete("emit", event.eventName(), false);
+                            // Best-effort: don't fail the request
+                            log.warn("Failed to send analytics event: {} - {}", event.eventName(), e.getMessage());
+                        },
+                        () -> {
+                            forward.complete("emit", event.eventName(), true);
+                            log.debug("Analytics event sent: {}", event.eventName());
+                        });
     }
 
     /**
@@ -1,20 +1,24 @@
 package com.ecosystem.webbff.analytics;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.observability.RequestContext;
+import com.ecosystem.webbff.resilience.Bulkhead;
+import com.ecosystem.webbff.resilience.BulkheadRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Controller for analytics event passthrough from web shell to Analytics service.
+ * Forwarding holds a slot of the analytics bulkhead but no thread; when all slots are busy, events are
+ * dropped rather than queued. Forwarded events also feed the {@link JourneySessionizer}.
  */
 @RestController
 @RequestMapping("/api/analytics")
@@ -23,13 +27,16 @@ public class AnalyticsController {
     private static final Logger log = LoggerFactory.getLogger(AnalyticsController.class);
 
     private final WebClient webClient;
+    private final Bulkhead bulkhead;
+    private final JourneySessionizer journeySessionizer;
 
     public AnalyticsController(
-            WebClient.Builder webClientBuilder,
-            @Value("${services.analytics.url:http://localhost:8090}") String analyticsServiceUrl) {
-        this.webClient = webClientBuilder
-                .baseUrl(analyticsServiceUrl)
-                .build();
+            DownstreamClients downstreamClients,
+            BulkheadRegistry bulkheads,
+            JourneySessionizer journeySessionizer) {
+        this.webClient = downstreamClients.get("analytics");
+        this.bulkhead = bulkheads.get("analytics");
+        this.journeySessionizer = journeySessionizer;
     }
 
     /**
@@ -38,12 +45,12 @@ public class AnalyticsController {
      */
     @PostMapping("/events")
     public ResponseEntity<?> postEvent(
-            @RequestBody Map<String, Object> event,
-            HttpServletRequest request) {
+            @RequestBody Map<String, Object> event) {
 
         // Enrich event with correlation context from headers/attributes
-        String journeyId = (String) request.getAttribute("journeyId");
-        String userEcosystemId = (String) request.getAttribute("userEcosystemId");
+        RequestContext context = RequestContext.current();
+        String journeyId = context.journeyId();
+        String userEcosystemId = context.userEcosystemId();
 
         if (journeyId != null && !event.containsKey("journeyId")) {
             event.put("journeyId", journeyId);
@@ -53,20 +60,29 @@ public class AnalyticsController {
         }
 
         log.debug("Forwarding analytics event: {}", event.get("eventName"));
+        sessionize(event, journeyId, userEcosystemId);
 
         // Forward to Analytics service asynchronously
-        webClient.post()
+        AnalyticsForwardEvent forward = new AnalyticsForwardEvent();
+        forward.begin();
+        bulkhead.execute(() -> webClient.post()
                 .uri("/api/analytics/events")
                 .header("x-journey-id", journeyId != null ? journeyId : "")
                 .header("x-user-ecosystem-id", userEcosystemId != null ? userEcosystemId : "")
                 .bodyValue(event)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(5))
-                .doOnSuccess(response -> log.debug("Analytics event forwarded successfully"))
-                .doOnError(error -> log.warn("Failed to forward analytics event: {}", error.getMessage()))
-                .onErrorResume(e -> Mono.empty())
-                .subscribe();
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(5)))
+                .subscribe(
+                        response -> {},
+                        error -> {
+                            forward.complete("forward", String.valueOf(event.get("eventName")), false);
+                            log.warn("Failed to forward analytics event: {}", error.getMessage());
+                        },
+                        () -> {
+                            forward.complete("forward", String.valueOf(event.get("eventName")), true);
+                            log.debug("Analytics event forwarded successfully");
+                        });
 
         // Return accepted immediately (don't block on Analytics service)
         return ResponseEntity.status(HttpStatus.ACCEPTED)
@@ -78,26 +94,54 @@ public class AnalyticsController {
      */
     @PostMapping("/events/batch")
     public ResponseEntity<?> postBatchEvents(
-            @RequestBody Map<String, Object> payload,
-            HttpServletRequest request) {
-
-        String journeyId = (String) request.getAttribute("journeyId");
-        String userEcosystemId = (String) request.getAttribute("userEcosystemId");
+            @RequestBody Map<String, Object> payload) {
+
+        RequestContext context = RequestContext.current();
+        String journeyId = context.journeyId();
+        String userEcosystemId = context.userEcosystemId();
+
+        if (payload.get("events") instanceof List<?> events) {
+            for (Object event : events) {
+                if (event instanceof Map<?, ?> fields) {
+                    sessionize(fields, journeyId, userEcosystemId);
+                }
+            }
+        }
 
         // Forward to Analytics service
-        webClient.post()
+        AnalyticsForwardEvent forward = new AnalyticsForwardEvent();
+        forward.begin();
+        bulkhead.execute(() -> webClient.post()
                 .uri("/api/analytics/events/batch")
                 .header("x-journey-id", journeyId != null ? journeyId : "")
                 .header("x-user-ecosystem-id", userEcosystemId != null ? userEcosystemId : "")
                 .bodyValue(payload)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .timeout(Duration.ofSeconds(10))
-                .onErrorResume(e -> Mono.empty())
-                .subscribe();
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(10)))
+                .subscribe(
+                        response -> {},
+                        error -> forward.complete("batch", null, false),
+                        () -> forward.complete("batch", null, true));
 
         return ResponseEntity.status(HttpStatus.ACCEPTED)
                 .body(Map.of("status", "accepted"));
     }
+
+    /**
+     * Event fields win over the correlation headers, as in the Analytics service.
+     */
+    private void sessionize(Map<?, ?> event, String journeyId, String userEcosystemId) {
+        journeySessionizer.record(
+                stringOr(event.get("journeyId"), journeyId),
+                stringOr(event.get("userEcosystemId"), userEcosystemId),
+                stringOr(event.get("domain"), null),
+                stringOr(event.get("eventName"), null),
+                stringOr(event.get("timestamp"), null));
+    }
+
+    private static String stringOr(Object value, String fallback) {
+        return value instanceof String text && !text.isEmpty() ? text : fallback;
+    }
 }
 
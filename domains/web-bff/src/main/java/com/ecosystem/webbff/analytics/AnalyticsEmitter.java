@@ -1,6 +1,6 @@
 package com.ecosystem.webbff.analytics;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.ecosystem.webbff.observability.RequestContext;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -10,14 +10,17 @@ import java.util.UUID;
 /**
  * Helper component for emitting analytics events from the Web BFF.
  * Provides convenient methods for common event types.
+ * Every event also feeds its journey's aggregate in the {@link JourneySessionizer}.
  */
 @Component
 public class AnalyticsEmitter {
 
     private final AnalyticsClient analyticsClient;
+    private final JourneySessionizer journeySessionizer;
 
-    public AnalyticsEmitter(AnalyticsClient analyticsClient) {
+    public AnalyticsEmitter(AnalyticsClient analyticsClient, JourneySessionizer journeySessionizer) {
         this.analyticsClient = analyticsClient;
+        this.journeySessionizer = journeySessionizer;
     }
 
     /**
@@ -25,26 +28,29 @@ public class AnalyticsEmitter {
      */
     public void emit(String eventName, String domain, String entity, String action,
                      String journeyId, String userEcosystemId, Map<String, Object> metadata) {
-        analyticsClient.sendEvent(AnalyticsClient.AnalyticsEvent.builder()
+        AnalyticsClient.AnalyticsEvent event = AnalyticsClient.AnalyticsEvent.builder()
                 .eventId(generateEventId())
                 .eventName(eventName)
                 .domain(domain)
                 .entity(entity)
                 .action(action)
                 .timestamp(Instant.now().toString())
-                .journeyId(journeyId != null ? journeyId : "jrn_unknown")
+                .journeyId(journeyId != null ? journeyId : JourneySessionizer.UNKNOWN_JOURNEY)
                 .userEcosystemId(userEcosystemId)
                 .metadata(metadata != null ? metadata : Map.of())
-                .build());
+                .build();
+        analyticsClient.sendEvent(event);
+        journeySessionizer.record(event.journeyId(), userEcosystemId, domain, eventName, event.timestamp());
     }
 
     /**
-     * Emit an event using request attributes for correlation.
+     * Emit an event correlated with the current request.
      */
-    public void emit(HttpServletRequest request, String eventName, String domain,
-                     String entity, String action, Map<String, Object> metadata) {
-        String journeyId = (String) request.getAttribute("journeyId");
-        String userEcosystemId = (String) request.getAttribute("userEcosystemId");
+    public void emit(String eventName, String domain, String entity, String action,
+                     Map<String, Object> metadata) {
+        RequestContext context = RequestContext.current();
+        String journeyId = context.journeyId();
+        String userEcosystemId = context.userEcosystemId();
         emit(eventName, domain, entity, action, journeyId, userEcosystemId, metadata);
     }
 
@@ -0,0 +1,39 @@
+package com.ecosystem.webbff.analytics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one delivery to the Analytics service, timed from submission to completion
+ * so bulkhead queueing shows up in the duration.
+ */
+@Name("com.ecosystem.webbff.AnalyticsForward")
+@Label("Analytics Forward")
+@Category({"Ecosystem", "Analytics"})
+@Description("Analytics event or batch sent to the Analytics service")
+@StackTrace(false)
+class AnalyticsForwardEvent extends Event {
+
+    @Label("Kind")
+    @Description("emit, forward or batch")
+    String kind;
+
+    @Label("Event Name")
+    String eventName;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    void complete(String kind, String eventName, boolean succeeded) {
+        if (shouldCommit()) {
+            this.kind = kind;
+            this.eventName = eventName;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
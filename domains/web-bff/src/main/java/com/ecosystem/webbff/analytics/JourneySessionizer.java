@@ -0,0 +1,414 @@
+package com.ecosystem.webbff.analytics;
+
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.observability.RequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-journey aggregates of the analytics events the BFF emits and forwards, maintained as the
+ * events pass through so the Analytics service never has to re-aggregate raw events.
+ *
+ * An open journey keeps its user, first and last event time, event count and a counter per domain.
+ * It closes on {@code logged_out}, after {@code inactivity-timeout} without events, or when
+ * {@code max-open} is reached and it is the least recently active one. Closed summaries are
+ * upserted into the Analytics {@code journeys} table in batches every {@code flush-interval};
+ * the service adds them to any earlier summary of the same journey. A batch that fails is retried
+ * on the next flush, and at most {@code max-pending} summaries wait, the oldest dropped first; a
+ * batch the service rejects as invalid is dropped instead, so it cannot block the ones behind it.
+ * Events are held to the service's limits as they are recorded: journey and user IDs longer than
+ * it accepts are left out, and event times are clamped to the years 1970 to 9999.
+ * Every summary carries a unique ID, so the service skips one it already applied when a batch
+ * is retried after its response was lost. Warm-up traffic is not sessionized.
+ *
+ * Open journeys are split into stripes by journey ID, each with its own lock and share of
+ * {@code max-open}, so concurrent requests rarely contend; eviction picks the least recently
+ * active journey of the stripe that overflowed.
+ */
+@Component
+public class JourneySessionizer {
+
+    private static final Logger log = LoggerFactory.getLogger(JourneySessionizer.class);
+
+    static final String UNKNOWN_JOURNEY = "jrn_unknown";
+    static final String LOGGED_OUT = "logged_out";
+    private static final String INACTIVE = "inactive";
+    private static final String EVICTED = "evicted";
+    private static final String SHUTDOWN = "shutdown";
+
+    // Longest journey and user IDs the Analytics service accepts
+    private static final int MAX_ID_LENGTH = 50;
+    // Client event times are clamped to what prints as a four-digit-year ISO-8601 instant
+    private static final long MIN_EVENT_MILLIS = 0;
+    private static final long MAX_EVENT_MILLIS = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli();
+
+    // Keeps summary IDs unique across restarts, when the sequence starts again from zero
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    // Stripes only when each still holds this many journeys, so eviction stays close to global LRU
+    private static final int MIN_JOURNEYS_PER_STRIPE = 1024;
+    private static final int MAX_STRIPES = 16;
+
+    // Domains accepted by the Analytics service; anything else is counted as "other"
+    private static final List<String> DOMAINS = List.of("user", "credit-card", "analytics", "platform");
+
+    private final long inactivityMillis;
+    private final int maxOpenPerStripe;
+    private final int maxPending;
+    private final int batchSize;
+    private final LongSupplier clock;
+    private final Consumer<List<JourneySummary>> sink;
+    private final Map<String, Counter> closed;
+    private final Counter dropped;
+    private final Counter uploadFailures;
+    private final ScheduledExecutorService flusher;
+
+    private final Stripe[] stripes;
+    private final AtomicLong closeSequence = new AtomicLong();
+    // Guarded by itself; taken inside a stripe lock, never the other way round
+    private final ArrayDeque<JourneySummary> pending = new ArrayDeque<>();
+
+    @Autowired
+    public JourneySessionizer(
+            DownstreamClients downstreamClients,
+            MeterRegistry meterRegistry,
+            @Value("${analytics.journeys.inactivity-timeout:30m}") Duration inactivityTimeout,
+            @Value("${analytics.journeys.max-open:100000}") int maxOpen,
+            @Value("${analytics.journeys.max-pending:50000}") int maxPending,
+            @Value("${analytics.journeys.batch-size:500}") int batchSize,
+            @Value("${analytics.journeys.flush-interval:10s}") Duration flushInterval) {
+        this(meterRegistry, inactivityTimeout, maxOpen, maxPending, batchSize, System::currentTimeMillis,
+                uploader(downstreamClients.get("analytics")), flushInterval);
+    }
+
+    JourneySessionizer(MeterRegistry meterRegistry, Duration inactivityTimeout, int maxOpen, int maxPending,
+                       int batchSize, LongSupplier clock, Consumer<List<JourneySummary>> sink,
+                       Duration flushInterval) {
+        this.inactivityMillis = inactivityTimeout.toMillis();
+        this.maxPending = Math.max(maxPending, 1);
+        this.batchSize = Math.max(batchSize, 1);
+        this.clock = clock;
+        this.sink = sink;
+
+        int capacity = Math.max(maxOpen, 1);
+        // A power of two, so a journey's stripe is a mask of its hash
+        int stripeCount = Math.max(1,
+                Math.min(MAX_STRIPES, Integer.highestOneBit(capacity / MIN_JOURNEYS_PER_STRIPE)));
+        this.maxOpenPerStripe = Math.ceilDiv(capacity, stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        Map<String, Counter> closedByReason = new HashMap<>();
+        for (String reason : List.of(LOGGED_OUT, INACTIVE, EVICTED, SHUTDOWN)) {
+            closedByReason.put(reason, Counter.builder("bff.analytics.journeys.closed")
+                    .tag("reason", reason)
+                    .description("Journeys closed, by reason")
+                    .register(meterRegistry));
+        }
+        this.closed = Map.copyOf(closedByReason);
+
+        this.dropped = Counter.builder("bff.analytics.journeys.dropped")
+                .description("Closed journey summaries dropped because too many were waiting for upload "
+                        + "or the Analytics service rejected their batch")
+                .register(meterRegistry);
+        this.uploadFailures = Counter.builder("bff.analytics.journeys.upload_failures")
+                .description("Journey summary batches that failed to upload and were kept for retry")
+                .register(meterRegistry);
+        Gauge.builder("bff.analytics.journeys.open", this, JourneySessionizer::openJourneys)
+                .description("Journeys being aggregated")
+                .register(meterRegistry);
+        Gauge.builder("bff.analytics.journeys.pending", this, JourneySessionizer::pendingSummaries)
+                .description("Closed journey summaries waiting for upload")
+                .register(meterRegistry);
+
+        if (flushInterval != null) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("journey-sessionizer").daemon(true).factory());
+            flusher.scheduleWithFixedDelay(this::flush,
+                    flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Add an event to its journey. Events without a journey ID, or with one longer than the Analytics
+     * service accepts, are ignored; an over-long user ID is left out of the summary.
+     *
+     * @param timestamp ISO-8601 event time; receipt time when missing or unparseable, and clamped
+     *                  to the years 1970 to 9999
+     */
+    public void record(String journeyId, String userEcosystemId, String domain, String eventName, String timestamp) {
+        if (journeyId == null || journeyId.isEmpty() || journeyId.length() > MAX_ID_LENGTH
+                || UNKNOWN_JOURNEY.equals(journeyId) || RequestContext.current().synthetic()) {
+            return;
+        }
+        if (userEcosystemId != null && userEcosystemId.length() > MAX_ID_LENGTH) {
+            userEcosystemId = null;
+        }
+        long now = clock.getAsLong();
+        long at = Math.clamp(parse(timestamp, now), MIN_EVENT_MILLIS, MAX_EVENT_MILLIS);
+        int domainIndex = DOMAINS.indexOf(domain);
+
+        Stripe stripe = stripeFor(journeyId);
+        synchronized (stripe) {
+            Journey journey = stripe.open.get(journeyId);
+            if (journey == null) {
+                journey = new Journey(journeyId, at);
+                stripe.open.put(journeyId, journey);
+                if (stripe.open.size() > maxOpenPerStripe) {
+                    Iterator<Journey> eldest = stripe.open.values().iterator();
+                    close(eldest.next(), EVICTED);
+                    eldest.remove();
+                }
+            }
+            journey.add(userEcosystemId, domainIndex, at, now);
+            if (LOGGED_OUT.equals(eventName)) {
+                stripe.open.remove(journeyId);
+                close(journey, LOGGED_OUT);
+            }
+        }
+    }
+
+    /**
+     * Close journeys idle past the inactivity timeout, then upload everything closed so far.
+     */
+    void flush() {
+        closeInactive();
+        List<JourneySummary> batch;
+        while ((batch = nextBatch()) != null) {
+            try {
+                sink.accept(batch);
+            } catch (RuntimeException e) {
+                if (e instanceof WebClientResponseException response && isRejection(response)) {
+                    // Resending the same batch would be rejected again and hold up everything behind it
+                    dropped.increment(batch.size());
+                    log.warn("Analytics rejected {} journey summaries, dropping them: {}",
+                            batch.size(), e.getMessage());
+                    continue;
+                }
+                uploadFailures.increment();
+                requeue(batch);
+                log.warn("Failed to upload {} journey summaries, retrying on the next flush: {}",
+                        batch.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    int openJourneys() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.open.size();
+            }
+        }
+        return count;
+    }
+
+    int pendingSummaries() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Close every open journey and make a last upload attempt, so summaries survive a restart.
+     */
+    @PreDestroy
+    void shutdown() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for (Journey journey : stripe.open.values()) {
+                    close(journey, SHUTDOWN);
+                }
+                stripe.open.clear();
+            }
+        }
+        flush();
+    }
+
+    private void closeInactive() {
+        long now = clock.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Journey> journeys = stripe.open.values().iterator();
+                while (journeys.hasNext()) {
+                    Journey journey = journeys.next();
+                    if (now - journey.lastSeenAt < inactivityMillis) {
+                        // Access order: every journey after this one was active more recently
+                        break;
+                    }
+                    close(journey, INACTIVE);
+                    journeys.remove();
+                }
+            }
+        }
+    }
+
+    private Stripe stripeFor(String journeyId) {
+        int h = journeyId.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    // Called with the journey's stripe held
+    private void close(Journey journey, String reason) {
+        JourneySummary summary = journey.summary(
+                journey.journeyId + "#" + EPOCH + "-" + closeSequence.incrementAndGet(), reason);
+        synchronized (pending) {
+            pending.addLast(summary);
+            if (pending.size() > maxPending) {
+                pending.pollFirst();
+                dropped.increment();
+            }
+        }
+        closed.get(reason).increment();
+    }
+
+    private List<JourneySummary> nextBatch() {
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            List<JourneySummary> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            while (batch.size() < batchSize && !pending.isEmpty()) {
+                batch.add(pending.pollFirst());
+            }
+            return batch;
+        }
+    }
+
+    private void requeue(List<JourneySummary> batch) {
+        synchronized (pending) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                pending.addFirst(batch.get(i));
+            }
+            while (pending.size() > maxPending) {
+                pending.pollLast();
+                dropped.increment();
+            }
+        }
+    }
+
+    // 4xx other than timeouts and throttling: the batch itself is invalid
+    private static boolean isRejection(WebClientResponseException e) {
+        int status = e.getStatusCode().value();
+        return e.getStatusCode().is4xxClientError() && status != 408 && status != 429;
+    }
+
+    private static long parse(String timestamp, long fallback) {
+        if (timestamp == null) {
+            return fallback;
+        }
+        try {
+            return Instant.parse(timestamp).toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+    private static Consumer<List<JourneySummary>> uploader(WebClient webClient) {
+        return batch -> webClient.post()
+                .uri("/api/analytics/journeys/batch")
+                .bodyValue(Map.of("journeys", batch))
+                .retrieve()
+                .toBodilessEntity()
+                .block(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Open journeys of one stripe. Access order: iteration starts at the journey idle the longest.
+     * Guarded by the stripe itself.
+     */
+    private static final class Stripe {
+        final LinkedHashMap<String, Journey> open = new LinkedHashMap<>(1024, 0.75f, true);
+    }
+
+    /**
+     * Aggregate of one open journey; guarded by its stripe.
+     */
+    private static final class Journey {
+
+        private final String journeyId;
+        private final int[] domainCounts = new int[DOMAINS.size() + 1];
+        private String userEcosystemId;
+        private long startedAt;
+        private long endedAt;
+        private long lastSeenAt;
+        private int eventCount;
+
+        Journey(String journeyId, long at) {
+            this.journeyId = journeyId;
+            this.startedAt = at;
+            this.endedAt = at;
+        }
+
+        void add(String userEcosystemId, int domainIndex, long at, long now) {
+            if (this.userEcosystemId == null) {
+                this.userEcosystemId = userEcosystemId;
+            }
+            startedAt = Math.min(startedAt, at);
+            endedAt = Math.max(endedAt, at);
+            lastSeenAt = now;
+            eventCount++;
+            domainCounts[domainIndex >= 0 ? domainIndex : DOMAINS.size()]++;
+        }
+
+        JourneySummary summary(String summaryId, String endReason) {
+            Map<String, Integer> counts = new LinkedHashMap<>();
+            for (int i = 0; i < domainCounts.length; i++) {
+                if (domainCounts[i] > 0) {
+                    counts.put(i < DOMAINS.size() ? DOMAINS.get(i) : "other", domainCounts[i]);
+                }
+            }
+            return new JourneySummary(summaryId, journeyId, userEcosystemId, Instant.ofEpochMilli(startedAt).toString(),
+                    Instant.ofEpochMilli(endedAt).toString(), eventCount, counts, endReason);
+        }
+    }
+
+    /**
+     * A closed journey as upserted into the Analytics {@code journeys} table. {@code summaryId} is
+     * unique per close and repeated on retries, so the service applies each summary once.
+     */
+    public record JourneySummary(
+            String summaryId,
+            String journeyId,
+            String userEcosystemId,
+            String startedAt,
+            String endedAt,
+            int eventCount,
+            Map<String, Integer> domainCounts,
+            String endReason
+    ) {}
+}
@@ -1,17 +1,22 @@
 package com.ecosystem.webbff.auth;
 
+import com.ecosystem.webbff.error.ErrorHandler.ErrorResponse;
+import com.ecosystem.webbff.observability.RequestContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -29,7 +34,7 @@ public class AuthFilter extends OncePerRequestFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
-    // Paths that don't require authentication
+    // Paths that don't require authentication; a valid token still identifies the caller
     private static final List<String> PUBLIC_PATHS = List.of(
             "/api/user/session/login",
             "/health",
@@ -37,51 +42,123 @@ public class AuthFilter extends OncePerRequestFilter {
             "/api/feature-flags"
     );
 
+    // Restricted to admins: JFR recordings can contain user data, admin APIs change live behaviour
+    private static final List<String> ADMIN_ONLY_PATHS = List.of(
+            "/actuator/jfr",
+            "/api/admin/"
+    );
+
+    private final TokenRevocationList revocations;
+    private final ObjectMapper objectMapper;
+
+    public AuthFilter(TokenRevocationList revocations, ObjectMapper objectMapper) {
+        this.revocations = revocations;
+        this.objectMapper = objectMapper;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
         String path = request.getRequestURI();
+        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
 
-        // Skip auth for public paths
-        if (isPublicPath(path)) {
-            filterChain.doFilter(request, response);
+        boolean adminOnly = isAdminOnlyPath(path);
+        if (adminOnly && !isAdmin(authHeader)) {
+            writeError(response, HttpStatus.FORBIDDEN, "forbidden", "Admin role required");
             return;
         }
-
-        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        boolean publicPath = !adminOnly && isPublicPath(path);
 
         if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
             // For MVP, allow unauthenticated requests but log a warning
-            log.debug("No valid Authorization header for path: {}", path);
+            if (!publicPath) {
+                log.debug("No valid Authorization header for path: {}", path);
+            }
             filterChain.doFilter(request, response);
             return;
         }
 
         String token = authHeader.substring(BEARER_PREFIX.length());
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
+
+        // Logged-out tokens are rejected outright rather than downgraded to anonymous,
+        // except on public paths, which serve anonymous callers anyway
+        if (revocations.isRevoked(token)) {
+            commit(event, "revoked");
+            log.debug("Revoked token presented for path: {}", path);
+            if (publicPath) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            writeError(response, HttpStatus.UNAUTHORIZED, "token_revoked", "Session has ended, please log in again");
+            return;
+        }
 
         // For MVP, just extract the user ecosystem ID from a simple token format
         // Format: demo_<userEcosystemId>_<timestamp>
+        DemoTokenInfo tokenInfo = null;
         try {
-            DemoTokenInfo tokenInfo = parseDemoToken(token);
-            if (tokenInfo != null) {
-                request.setAttribute("userEcosystemId", tokenInfo.userEcosystemId());
-                request.setAttribute("username", tokenInfo.username());
-                request.setAttribute("role", tokenInfo.role());
-                MDC.put("userEcosystemId", tokenInfo.userEcosystemId());
-            }
+            tokenInfo = parseDemoToken(token);
+            commit(event, tokenInfo != null ? "valid" : "invalid");
         } catch (Exception e) {
+            commit(event, "invalid");
             log.warn("Failed to parse demo token: {}", e.getMessage());
         }
 
-        filterChain.doFilter(request, response);
+        if (tokenInfo == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestContext context = RequestContext.current()
+                .withUser(tokenInfo.userEcosystemId(), tokenInfo.username(), tokenInfo.role());
+        try (RequestContext.Scope ignored = context.open()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static void commit(TokenVerificationEvent event, String outcome) {
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private boolean isAdmin(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        String token = authHeader.substring(BEARER_PREFIX.length());
+        if (revocations.isRevoked(token)) {
+            return false;
+        }
+        DemoTokenInfo tokenInfo = parseDemoToken(token);
+        return tokenInfo != null && "admin".equalsIgnoreCase(tokenInfo.role());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String error, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                error,
+                message,
+                null,
+                Instant.now().toString()
+        ));
     }
 
     private boolean isPublicPath(String path) {
         return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
     }
 
+    private boolean isAdminOnlyPath(String path) {
+        return ADMIN_ONLY_PATHS.stream().anyMatch(path::startsWith);
+    }
+
     private DemoTokenInfo parseDemoToken(String token) {
         // Demo token format: demo_<username>_<userEcosystemId>_<role>_<timestamp>
         if (!token.startsWith("demo_")) {
@@ -0,0 +1,184 @@
+package com.ecosystem.webbff.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Tokens revoked by logout, kept only until they would have expired anyway.
+ *
+ * Revocations go into a ring of generations, each covering {@code max-age / (generations - 1)};
+ * rotating clears the oldest generation, whose entries are all past max-age. A generation holds a
+ * Bloom filter plus an exact set of its tokens up to a capacity. While the exact set is complete,
+ * a Bloom hit is confirmed against it; once it overflows, a Bloom hit counts as revoked, so
+ * memory stays bounded and a false positive only forces a fresh login.
+ *
+ * The list lives in this instance's memory only. Revocation holds with a single BFF instance;
+ * with several replicas, a token logged out on one is still accepted by the others.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final Generation[] generations;
+    private final long generationMillis;
+    private final LongSupplier clock;
+    private final Counter revocations;
+    private final Counter rejections;
+    private final ScheduledExecutorService rotator;
+    private volatile int head;
+    private volatile long headStartedAt;
+
+    @Autowired
+    public TokenRevocationList(
+            MeterRegistry meterRegistry,
+            @Value("${demo.auth.token-max-age:24h}") Duration maxAge,
+            @Value("${demo.auth.revocation.generations:4}") int generations,
+            @Value("${demo.auth.revocation.expected-per-day:2000000}") long expectedPerDay,
+            @Value("${demo.auth.revocation.false-positive-rate:0.000001}") double falsePositiveRate,
+            @Value("${demo.auth.revocation.exact-capacity:200000}") int exactCapacity) {
+        this(meterRegistry, maxAge, generations, expectedPerDay, falsePositiveRate, exactCapacity,
+                System::currentTimeMillis, true);
+    }
+
+    TokenRevocationList(MeterRegistry meterRegistry, Duration maxAge, int generations, long expectedPerDay,
+                        double falsePositiveRate, int exactCapacity, LongSupplier clock, boolean scheduleRotation) {
+        if (generations < 2) {
+            throw new IllegalArgumentException("Token revocation needs at least 2 generations");
+        }
+        this.generationMillis = Math.max(1, maxAge.toMillis() / (generations - 1));
+        this.clock = clock;
+
+        long expectedPerGeneration = Math.max(1, expectedPerDay * generationMillis / Duration.ofDays(1).toMillis());
+        int exactPerGeneration = Math.max(1, exactCapacity / generations);
+        this.generations = new Generation[generations];
+        for (int i = 0; i < generations; i++) {
+            this.generations[i] = new Generation(
+                    new RevocationBloomFilter(expectedPerGeneration, falsePositiveRate), exactPerGeneration);
+        }
+        this.headStartedAt = clock.getAsLong();
+
+        this.revocations = Counter.builder("bff.auth.revocations")
+                .description("Tokens revoked by logout")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("bff.auth.revoked_rejections")
+                .description("Requests rejected because their token was revoked")
+                .register(meterRegistry);
+        Gauge.builder("bff.auth.revocation.exact_entries", this, TokenRevocationList::exactEntries)
+                .description("Revoked tokens held in the exact sets")
+                .register(meterRegistry);
+        Gauge.builder("bff.auth.revocation.bloom_bytes", this, TokenRevocationList::bloomBytes)
+                .description("Memory held by the revocation Bloom filters")
+                .register(meterRegistry);
+
+        if (scheduleRotation) {
+            this.rotator = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("token-revocation-rotation").daemon(true).factory());
+            long period = Math.min(generationMillis, Duration.ofMinutes(1).toMillis());
+            rotator.scheduleAtFixedRate(this::rotateIfDue, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            this.rotator = null;
+        }
+    }
+
+    /**
+     * Revoke a token until {@code expiresAtMillis}. Tokens already expired are ignored.
+     */
+    public void revoke(String token, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+        Generation generation = generations[head];
+        generation.bloom.put(RevocationBloomFilter.hash(token));
+        if (!generation.overflowed) {
+            if (generation.size.incrementAndGet() <= generation.exactCapacity) {
+                generation.exact.add(token);
+            } else {
+                generation.overflowed = true;
+            }
+        }
+        revocations.increment();
+    }
+
+    /**
+     * Whether a token was revoked. Allocation-free: one hash, then array and map probes.
+     */
+    public boolean isRevoked(String token) {
+        long hash = RevocationBloomFilter.hash(token);
+        for (Generation generation : generations) {
+            if (generation.bloom.mightContain(hash)
+                    && (generation.overflowed || generation.exact.contains(token))) {
+                rejections.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (rotator != null) {
+            rotator.shutdownNow();
+        }
+    }
+
+    void rotateIfDue() {
+        long now = clock.getAsLong();
+        while (now - headStartedAt >= generationMillis) {
+            int next = (head + 1) % generations.length;
+            // The oldest generation only holds tokens revoked at least max-age ago; all have expired
+            generations[next].clear();
+            headStartedAt += generationMillis;
+            head = next;
+        }
+    }
+
+    private double exactEntries() {
+        long total = 0;
+        for (Generation generation : generations) {
+            total += generation.exact.size();
+        }
+        return total;
+    }
+
+    private double bloomBytes() {
+        long total = 0;
+        for (Generation generation : generations) {
+            total += generation.bloom.sizeInBytes();
+        }
+        return total;
+    }
+
+    private static final class Generation {
+
+        private final RevocationBloomFilter bloom;
+        private final Set<String> exact = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int exactCapacity;
+        private volatile boolean overflowed;
+
+        Generation(RevocationBloomFilter bloom, int exactCapacity) {
+            this.bloom = bloom;
+            this.exactCapacity = exactCapacity;
+        }
+
+        void clear() {
+            overflowed = false;
+            exact.clear();
+            size.set(0);
+            bloom.clear();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ecosystem.webbff.auth;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Base64;
 
 /**
@@ -16,6 +17,15 @@ public class TokenService {
     @Value("${demo.auth.secret:demo-secret-change-in-prod}")
     private String secret;
 
+    @Value("${demo.auth.token-max-age:24h}")
+    private Duration maxAge;
+
+    private final TokenRevocationList revocations;
+
+    public TokenService(TokenRevocationList revocations) {
+        this.revocations = revocations;
+    }
+
     /**
      * Generate a demo token for a user.
      * Token format: demo_<username>_<userEcosystemId>_<role>_<timestamp>
@@ -28,7 +38,7 @@ public class TokenService {
 
     /**
      * Validate and parse a demo token.
-     * Returns null if invalid.
+     * Returns null if invalid, expired or revoked.
      */
     public TokenInfo validateToken(String token) {
         if (token == null || !token.startsWith("demo_")) {
@@ -46,9 +56,10 @@ public class TokenService {
             String role = parts[3];
             long timestamp = Long.parseLong(parts[4]);
 
-            // Check token age (24 hours max for demo)
-            long maxAge = 24 * 60 * 60 * 1000;
-            if (System.currentTimeMillis() - timestamp > maxAge) {
+            if (System.currentTimeMillis() - timestamp > maxAge.toMillis()) {
+                return null;
+            }
+            if (revocations.isRevoked(token)) {
                 return null;
             }
 
@@ -58,6 +69,20 @@ public class TokenService {
         }
     }
 
+    /**
+     * Revoke a token until it would have expired.
+     *
+     * @return false if the token was not valid to begin with
+     */
+    public boolean revokeToken(String token) {
+        TokenInfo info = validateToken(token);
+        if (info == null) {
+            return false;
+        }
+        revocations.revoke(token, info.timestamp() + maxAge.toMillis());
+        return true;
+    }
+
     public record TokenInfo(String username, String userEcosystemId, String role, long timestamp) {}
 }
 
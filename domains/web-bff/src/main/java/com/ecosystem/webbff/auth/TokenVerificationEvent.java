@@ -0,0 +1,22 @@
+package com.ecosystem.webbff.auth;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one bearer token check in the auth filter.
+ */
+@Name("com.ecosystem.webbff.TokenVerification")
+@Label("Token Verification")
+@Category({"Ecosystem", "Auth"})
+@Description("Bearer token parsed and checked against the revocation list")
+@StackTrace(false)
+class TokenVerificationEvent extends Event {
+
+    @Label("Outcome")
+    String outcome;
+}
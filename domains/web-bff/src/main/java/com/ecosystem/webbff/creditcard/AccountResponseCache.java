@@ -0,0 +1,56 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.VersionedAccount;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+/**
+ * Short-lived cache of serialized account bodies keyed by (user, version).
+ * A version never changes content, so entries only need to live as long as the polling burst.
+ */
+@Component
+public class AccountResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, byte[]> bodies;
+
+    public AccountResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${credit-card.account-cache.maximum-size:50000}") long maximumSize,
+            @Value("${credit-card.account-cache.ttl:10s}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.bodies = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bodies, "credit-card.account-responses");
+    }
+
+    /**
+     * The JSON body for this account version, serialized at most once while cached.
+     */
+    public byte[] body(String userEcosystemId, VersionedAccount account) {
+        return bodies.get(new Key(userEcosystemId, account.version()), key -> serialize(account));
+    }
+
+    private byte[] serialize(VersionedAccount account) {
+        try {
+            return objectMapper.writeValueAsBytes(account.account());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Key(String userEcosystemId, long version) {}
+}
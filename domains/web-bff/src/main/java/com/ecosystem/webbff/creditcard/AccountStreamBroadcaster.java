@@ -0,0 +1,221 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.AccountChanged;
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.VersionedAccount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Fans account changes out to open SSE streams, one channel per user.
+ *
+ * Each subscriber buffers at most one pending update: a newer version replaces an unsent older
+ * one, so a slow client only ever receives the latest state. Writes for a subscriber run on a
+ * short-lived virtual thread and never overlap, so no request or publisher thread waits on a
+ * slow socket. Quiet streams get a heartbeat comment; failed or expired streams are dropped.
+ */
+@Component
+public class AccountStreamBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountStreamBroadcaster.class);
+
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService writers =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("account-stream-", 0).factory());
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("account-stream-heartbeat").daemon(true).factory());
+
+    private final Duration streamTimeout;
+    private final long heartbeatNanos;
+
+    private final Counter sent;
+    private final Counter conflated;
+    private final Counter stale;
+
+    public AccountStreamBroadcaster(
+            MeterRegistry meterRegistry,
+            @Value("${credit-card.account-stream.timeout:30m}") Duration streamTimeout,
+            @Value("${credit-card.account-stream.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.streamTimeout = streamTimeout;
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+
+        this.sent = Counter.builder("bff.account_stream.sent")
+                .description("Account updates written to streams")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("bff.account_stream.conflated")
+                .description("Account updates replaced by a newer one before being written")
+                .register(meterRegistry);
+        this.stale = Counter.builder("bff.account_stream.stale")
+                .description("Account updates dropped because a newer version was already pending or sent")
+                .register(meterRegistry);
+        Gauge.builder("bff.account_stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open account streams")
+                .register(meterRegistry);
+        Gauge.builder("bff.account_stream.channels", channels, Map::size)
+                .description("Users with at least one open account stream")
+                .register(meterRegistry);
+
+        heartbeats.scheduleAtFixedRate(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Open a stream for a user, starting with their current account state. The snapshot is read only
+     * once the subscriber is registered, so a change landing in between is either in the snapshot or
+     * delivered as an event; whichever version is higher wins.
+     */
+    public SseEmitter subscribe(String userEcosystemId, Supplier<VersionedAccount> current) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(userEcosystemId, emitter);
+
+        channels.compute(userEcosystemId, (id, subscribers) -> {
+            Set<Subscriber> channel = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            channel.add(subscriber);
+            return channel;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscriber.offer(current.get());
+        return emitter;
+    }
+
+    @EventListener
+    public void onAccountChanged(AccountChanged event) {
+        Set<Subscriber> channel = channels.get(event.userEcosystemId());
+        if (channel != null) {
+            for (Subscriber subscriber : channel) {
+                subscriber.offer(event.account());
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    private void heartbeat() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> channel : channels.values()) {
+            for (Subscriber subscriber : channel) {
+                if (now - subscriber.lastWriteNanos >= heartbeatNanos) {
+                    subscriber.heartbeatDue.set(true);
+                    subscriber.schedule();
+                }
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.userEcosystemId, (id, channel) -> {
+            channel.remove(subscriber);
+            return channel.isEmpty() ? null : channel;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    private final class Subscriber {
+
+        final String userEcosystemId;
+        final SseEmitter emitter;
+        final AtomicReference<VersionedAccount> pending = new AtomicReference<>();
+        final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        final AtomicBoolean writing = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile long lastSentVersion = -1;
+        volatile long lastWriteNanos = System.nanoTime();
+
+        Subscriber(String userEcosystemId, SseEmitter emitter) {
+            this.userEcosystemId = userEcosystemId;
+            this.emitter = emitter;
+        }
+
+        void offer(VersionedAccount account) {
+            VersionedAccount previous = pending.getAndAccumulate(account,
+                    (current, next) -> current == null || next.version() > current.version() ? next : current);
+            if (previous != null) {
+                if (account.version() > previous.version()) {
+                    conflated.increment();
+                } else {
+                    stale.increment();
+                }
+            }
+            schedule();
+        }
+
+        void schedule() {
+            if (!closed.get() && writing.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    VersionedAccount next = pending.getAndSet(null);
+                    if (next != null) {
+                        if (next.version() > lastSentVersion) {
+                            emitter.send(SseEmitter.event()
+                                    .id(Long.toString(next.version()))
+                                    .name("account")
+                                    .data(next.account(), MediaType.APPLICATION_JSON));
+                            lastSentVersion = next.version();
+                            lastWriteNanos = System.nanoTime();
+                            sent.increment();
+                        } else {
+                            stale.increment();
+                        }
+                    } else if (heartbeatDue.getAndSet(false)) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        lastWriteNanos = System.nanoTime();
+                    } else {
+                        break;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the container completes the emitter
+                log.debug("Account stream for user {} closed: {}", userEcosystemId, e.getMessage());
+                close();
+            } finally {
+                writing.set(false);
+            }
+            if (pending.get() != null || heartbeatDue.get()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.observability.RequestContext;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Live account updates over Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/api/credit-card")
+public class AccountStreamController {
+
+    private final CreditCardAccountStore accountStore;
+    private final AccountStreamBroadcaster broadcaster;
+
+    public AccountStreamController(CreditCardAccountStore accountStore, AccountStreamBroadcaster broadcaster) {
+        this.accountStore = accountStore;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Stream the user's account: the current state first, then an "account" event after every
+     * purchase, limit raise or reset. The event id is the account version.
+     */
+    @GetMapping(value = "/account/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAccount() {
+        String contextUser = RequestContext.current().userEcosystemId();
+        String userEcosystemId = contextUser != null ? contextUser : "usr_demo_user_001";
+
+        return broadcaster.subscribe(userEcosystemId, () -> accountStore.versionedSnapshot(userEcosystemId));
+    }
+}
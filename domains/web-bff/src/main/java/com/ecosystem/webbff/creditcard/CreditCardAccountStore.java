@@ -0,0 +1,144 @@
+package com.ecosystem.webbff.creditcard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory per-user credit card simulation state (MVP).
+ * Shared by the action endpoints and the read-only views built on top of them.
+ *
+ * Every state carries a version that is bumped whenever its limits change, so readers can tell
+ * "nothing changed" without comparing bodies. Each change is also published as an {@link AccountChanged} event.
+ */
+@Component
+public class CreditCardAccountStore {
+
+    // Distinguishes versions across restarts, when every counter starts again from zero
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<String, UserCreditState> userStates = new ConcurrentHashMap<>();
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${credit-card.defaults.pre-approved-limit:5000.00}")
+    private BigDecimal defaultLimit;
+
+    public CreditCardAccountStore(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Current state for a user, created with the initial limit on first access.
+     */
+    UserCreditState getOrCreate(String userEcosystemId) {
+        return userStates.computeIfAbsent(userEcosystemId, id -> {
+            BigDecimal initialLimit = initialLimit(id);
+            return new UserCreditState(initialLimit, initialLimit);
+        });
+    }
+
+    /**
+     * Apply a change to a user's state atomically, bumping its version if the limits changed.
+     */
+    <T> T update(String userEcosystemId, Function<UserCreditState, T> change) {
+        UserCreditState state = getOrCreate(userEcosystemId);
+        T result;
+        VersionedAccount changed = null;
+        synchronized (state) {
+            BigDecimal creditLimit = state.creditLimit;
+            BigDecimal availableLimit = state.availableLimit;
+            result = change.apply(state);
+            if (!creditLimit.equals(state.creditLimit) || !availableLimit.equals(state.availableLimit)) {
+                state.version++;
+                changed = toVersioned(userEcosystemId, state);
+            }
+        }
+        // Published outside the lock; listeners must tolerate events arriving out of version order
+        if (changed != null) {
+            eventPublisher.publishEvent(new AccountChanged(userEcosystemId, changed));
+        }
+        return result;
+    }
+
+    /**
+     * Put a user's state back at the initial limit, returning the account as reset.
+     */
+    AccountSnapshot reset(String userEcosystemId) {
+        BigDecimal initialLimit = initialLimit(userEcosystemId);
+        return update(userEcosystemId, state -> {
+            state.creditLimit = initialLimit;
+            state.availableLimit = initialLimit;
+            return toVersioned(userEcosystemId, state).account();
+        });
+    }
+
+    /**
+     * Read-only view of a user's account.
+     */
+    public AccountSnapshot snapshot(String userEcosystemId) {
+        return versionedSnapshot(userEcosystemId).account();
+    }
+
+    /**
+     * Read-only view of a user's account together with the version it reflects.
+     */
+    public VersionedAccount versionedSnapshot(String userEcosystemId) {
+        UserCreditState state = getOrCreate(userEcosystemId);
+        synchronized (state) {
+            return toVersioned(userEcosystemId, state);
+        }
+    }
+
+    private static VersionedAccount toVersioned(String userEcosystemId, UserCreditState state) {
+        return new VersionedAccount(state.version, new AccountSnapshot(
+                "acc_" + userEcosystemId.hashCode(),
+                "ONBOARDED",
+                state.creditLimit,
+                state.availableLimit
+        ));
+    }
+
+    private BigDecimal initialLimit(String userEcosystemId) {
+        return userEcosystemId.contains("admin")
+                ? defaultLimit.multiply(BigDecimal.valueOf(2))
+                : defaultLimit;
+    }
+
+    public record AccountSnapshot(
+            String accountId,
+            String status,
+            BigDecimal creditLimit,
+            BigDecimal availableLimit
+    ) {}
+
+    public record VersionedAccount(long version, AccountSnapshot account) {
+
+        /**
+         * Strong ETag for this exact account state.
+         */
+        public String etag() {
+            return "\"" + account.accountId() + "-" + EPOCH + "-" + version + "\"";
+        }
+    }
+
+    /**
+     * Published after a user's account moved to a new version.
+     */
+    public record AccountChanged(String userEcosystemId, VersionedAccount account) {}
+
+    static class UserCreditState {
+        BigDecimal creditLimit;
+        BigDecimal availableLimit;
+        long version;
+
+        UserCreditState(BigDecimal creditLimit, BigDecimal availableLimit) {
+            this.creditLimit = creditLimit;
+            this.availableLimit = availableLimit;
+        }
+    }
+}
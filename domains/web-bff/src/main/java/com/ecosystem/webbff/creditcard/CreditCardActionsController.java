@@ -1,17 +1,21 @@
 package com.ecosystem.webbff.creditcard;
 
 import com.ecosystem.webbff.analytics.AnalyticsEmitter;
-import jakarta.servlet.http.HttpServletRequest;
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.AccountSnapshot;
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.VersionedAccount;
+import com.ecosystem.webbff.observability.RequestContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Controller for credit card action endpoints (purchase simulation, raise limit, reset).
@@ -26,53 +30,81 @@ public class CreditCardActionsController {
     private final AnalyticsEmitter analyticsEmitter;
 
     // In-memory state for MVP (per-user simulation state)
-    private final Map<String, UserCreditState> userStates = new ConcurrentHashMap<>();
-
-    @Value("${credit-card.defaults.pre-approved-limit:5000.00}")
-    private BigDecimal defaultLimit;
+    private final CreditCardAccountStore accountStore;
+    private final AccountResponseCache accountResponseCache;
+    private final CreditCardMetrics metrics;
 
     @Value("${credit-card.defaults.raise-limit-increment:2000.00}")
     private BigDecimal raiseLimitIncrement;
 
-    public CreditCardActionsController(AnalyticsEmitter analyticsEmitter) {
+    public CreditCardActionsController(AnalyticsEmitter analyticsEmitter,
+                                       CreditCardAccountStore accountStore,
+                                       AccountResponseCache accountResponseCache,
+                                       CreditCardMetrics metrics) {
         this.analyticsEmitter = analyticsEmitter;
+        this.accountStore = accountStore;
+        this.accountResponseCache = accountResponseCache;
+        this.metrics = metrics;
     }
 
     /**
      * Get the current account state.
+     * Answers 304 when {@code If-None-Match} carries the current ETag, without building a body.
      */
     @GetMapping("/account")
-    public ResponseEntity<?> getAccount(HttpServletRequest request) {
-        String userEcosystemId = getUserEcosystemId(request);
-        UserCreditState state = getOrCreateState(userEcosystemId);
+    public ResponseEntity<?> getAccount(WebRequest webRequest) {
+        String userEcosystemId = getUserEcosystemId();
+        VersionedAccount account = accountStore.versionedSnapshot(userEcosystemId);
 
-        return ResponseEntity.ok(Map.of(
-                "accountId", "acc_" + userEcosystemId.hashCode(),
-                "status", "ONBOARDED",
-                "creditLimit", state.creditLimit,
-                "availableLimit", state.availableLimit
-        ));
+        if (webRequest.checkNotModified(account.etag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(account.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(accountResponseCache.body(userEcosystemId, account));
     }
 
     /**
      * Simulate a purchase with a random amount.
      */
     @PostMapping("/actions/simulate-purchase")
-    public ResponseEntity<?> simulatePurchase(HttpServletRequest request) {
-        String userEcosystemId = getUserEcosystemId(request);
-        String journeyId = (String) request.getAttribute("journeyId");
-        UserCreditState state = getOrCreateState(userEcosystemId);
+    public ResponseEntity<?> simulatePurchase() {
+        String userEcosystemId = getUserEcosystemId();
+        String journeyId = RequestContext.current().journeyId();
 
         // Generate random purchase amount between $10 and $500
         BigDecimal amount = BigDecimal.valueOf(10 + random.nextDouble() * 490)
                 .setScale(2, java.math.RoundingMode.HALF_UP);
 
+        PurchaseAuthorizationEvent event = new PurchaseAuthorizationEvent();
+        event.begin();
+        // Read under the account lock: the state may change again as soon as update returns
+        PurchaseOutcome outcome = accountStore.update(userEcosystemId, s -> {
+            if (s.availableLimit.compareTo(amount) < 0) {
+                return new PurchaseOutcome(false, s.availableLimit);
+            }
+            s.availableLimit = s.availableLimit.subtract(amount);
+            return new PurchaseOutcome(true, s.availableLimit);
+        });
+        boolean approved = outcome.approved();
+
+        metrics.purchase(approved);
+        // Warm-up purchases stay out of recordings, like they stay out of the business counters
+        if (!RequestContext.current().synthetic() && event.shouldCommit()) {
+            event.userEcosystemId = userEcosystemId;
+            event.amount = amount.doubleValue();
+            event.outcome = approved ? "approved" : "declined";
+            event.commit();
+        }
+
         String status;
         String message;
 
-        if (state.availableLimit.compareTo(amount) >= 0) {
+        if (approved) {
             // Approved
-            state.availableLimit = state.availableLimit.subtract(amount);
             status = "approved";
             message = "Purchase successful";
             log.info("Purchase approved for user {}: ${}", userEcosystemId, amount);
@@ -81,7 +113,7 @@ public class CreditCardActionsController {
             status = "declined";
             message = "Insufficient available credit";
             log.info("Purchase declined for user {}: ${} (available: ${})",
-                    userEcosystemId, amount, state.availableLimit);
+                    userEcosystemId, amount, outcome.availableLimit());
         }
 
         // Emit analytics
@@ -92,7 +124,7 @@ public class CreditCardActionsController {
                 "status", status,
                 "amount", amount,
                 "message", message,
-                "remainingLimit", state.availableLimit
+                "remainingLimit", outcome.availableLimit()
         ));
     }
 
@@ -100,24 +132,35 @@ public class CreditCardActionsController {
      * Raise the credit limit.
      */
     @PostMapping("/actions/raise-limit")
-    public ResponseEntity<?> raiseLimit(HttpServletRequest request) {
-        String userEcosystemId = getUserEcosystemId(request);
-        String journeyId = (String) request.getAttribute("journeyId");
-        UserCreditState state = getOrCreateState(userEcosystemId);
-
-        BigDecimal oldLimit = state.creditLimit;
-        state.creditLimit = state.creditLimit.add(raiseLimitIncrement);
-        state.availableLimit = state.availableLimit.add(raiseLimitIncrement);
+    public ResponseEntity<?> raiseLimit() {
+        String userEcosystemId = getUserEcosystemId();
+        String journeyId = RequestContext.current().journeyId();
+
+        LimitAdjustmentEvent event = new LimitAdjustmentEvent();
+        event.begin();
+        LimitChange change = accountStore.update(userEcosystemId, s -> {
+            BigDecimal previous = s.creditLimit;
+            s.creditLimit = s.creditLimit.add(raiseLimitIncrement);
+            s.availableLimit = s.availableLimit.add(raiseLimitIncrement);
+            return new LimitChange(previous, s.creditLimit, s.availableLimit);
+        });
 
-        log.info("Raised limit for user {}: ${} -> ${}", userEcosystemId, oldLimit, state.creditLimit);
+        metrics.limitRaised();
+        if (!RequestContext.current().synthetic() && event.shouldCommit()) {
+            event.userEcosystemId = userEcosystemId;
+            event.oldLimit = change.oldLimit().doubleValue();
+            event.newLimit = change.newLimit().doubleValue();
+            event.commit();
+        }
+        log.info("Raised limit for user {}: ${} -> ${}", userEcosystemId, change.oldLimit(), change.newLimit());
 
         // Emit analytics
         analyticsEmitter.emitLimitRaised(journeyId, userEcosystemId,
-                Map.of("oldLimit", oldLimit.doubleValue(), "newLimit", state.creditLimit.doubleValue()));
+                Map.of("oldLimit", change.oldLimit().doubleValue(), "newLimit", change.newLimit().doubleValue()));
 
         return ResponseEntity.ok(Map.of(
-                "newLimit", state.creditLimit,
-                "availableLimit", state.availableLimit,
+                "newLimit", change.newLimit(),
+                "availableLimit", change.availableLimit(),
                 "message", "Limit increased by $" + raiseLimitIncrement
         ));
     }
@@ -126,53 +169,33 @@ public class CreditCardActionsController {
      * Reset the account to initial state.
      */
     @PostMapping("/actions/reset")
-    public ResponseEntity<?> reset(HttpServletRequest request) {
-        String userEcosystemId = getUserEcosystemId(request);
-        String journeyId = (String) request.getAttribute("journeyId");
+    public ResponseEntity<?> reset() {
+        String userEcosystemId = getUserEcosystemId();
+        String journeyId = RequestContext.current().journeyId();
 
         // Reset to initial state
-        BigDecimal initialLimit = userEcosystemId.contains("admin")
-                ? defaultLimit.multiply(BigDecimal.valueOf(2))
-                : defaultLimit;
+        AccountSnapshot account = accountStore.reset(userEcosystemId);
 
-        UserCreditState state = new UserCreditState(initialLimit, initialLimit);
-        userStates.put(userEcosystemId, state);
-
-        log.info("Reset account for user {}: limit ${}", userEcosystemId, initialLimit);
+        log.info("Reset account for user {}: limit ${}", userEcosystemId, account.creditLimit());
 
         // Emit analytics
         analyticsEmitter.emitAccountReset(journeyId, userEcosystemId);
 
         return ResponseEntity.ok(Map.of(
                 "status", "reset",
-                "creditLimit", state.creditLimit,
-                "availableLimit", state.availableLimit,
+                "creditLimit", account.creditLimit(),
+                "availableLimit", account.availableLimit(),
                 "message", "Account has been reset"
         ));
     }
 
-    private String getUserEcosystemId(HttpServletRequest request) {
-        String userEcosystemId = (String) request.getAttribute("userEcosystemId");
+    private static String getUserEcosystemId() {
+        String userEcosystemId = RequestContext.current().userEcosystemId();
         return userEcosystemId != null ? userEcosystemId : "usr_demo_user_001";
     }
 
-    private UserCreditState getOrCreateState(String userEcosystemId) {
-        return userStates.computeIfAbsent(userEcosystemId, id -> {
-            BigDecimal initialLimit = id.contains("admin")
-                    ? defaultLimit.multiply(BigDecimal.valueOf(2))
-                    : defaultLimit;
-            return new UserCreditState(initialLimit, initialLimit);
-        });
-    }
-
-    private static class UserCreditState {
-        BigDecimal creditLimit;
-        BigDecimal availableLimit;
+    private record PurchaseOutcome(boolean approved, BigDecimal availableLimit) {}
 
-        UserCreditState(BigDecimal creditLimit, BigDecimal availableLimit) {
-            this.creditLimit = creditLimit;
-            this.availableLimit = availableLimit;
-        }
-    }
+    private record LimitChange(BigDecimal oldLimit, BigDecimal newLimit, BigDecimal availableLimit) {}
 }
 
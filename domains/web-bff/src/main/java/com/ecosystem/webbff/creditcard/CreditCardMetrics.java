@@ -0,0 +1,56 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.observability.RequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business counters for credit card journeys.
+ * Every tag combination is registered up front, so recording is a single counter increment.
+ * Warm-up traffic is not counted, so business counters only ever reflect real users.
+ */
+@Component
+public class CreditCardMetrics {
+
+    private final Counter purchasesApproved;
+    private final Counter purchasesDeclined;
+    private final Counter limitRaises;
+    private final Counter offerViews;
+
+    public CreditCardMetrics(MeterRegistry meterRegistry) {
+        this.purchasesApproved = purchases(meterRegistry, "approved");
+        this.purchasesDeclined = purchases(meterRegistry, "declined");
+        this.limitRaises = Counter.builder("bff.credit_card.limit_raises")
+                .description("Credit limit increases")
+                .register(meterRegistry);
+        this.offerViews = Counter.builder("bff.credit_card.offer_views")
+                .description("Pre-approved offers shown to users")
+                .register(meterRegistry);
+    }
+
+    public void purchase(boolean approved) {
+        if (!RequestContext.current().synthetic()) {
+            (approved ? purchasesApproved : purchasesDeclined).increment();
+        }
+    }
+
+    public void limitRaised() {
+        if (!RequestContext.current().synthetic()) {
+            limitRaises.increment();
+        }
+    }
+
+    public void offerViewed() {
+        if (!RequestContext.current().synthetic()) {
+            offerViews.increment();
+        }
+    }
+
+    private static Counter purchases(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("bff.credit_card.purchases")
+                .tag("outcome", outcome)
+                .description("Simulated purchases by outcome")
+                .register(meterRegistry);
+    }
+}
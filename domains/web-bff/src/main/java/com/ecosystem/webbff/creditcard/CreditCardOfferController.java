@@ -1,16 +1,18 @@
 package com.ecosystem.webbff.creditcard;
 
 import com.ecosystem.webbff.analytics.AnalyticsEmitter;
-import jakarta.servlet.http.HttpServletRequest;
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.observability.RequestContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.CacheControl;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Controller for credit card offer endpoints.
@@ -20,58 +22,77 @@ import java.util.Map;
 public class CreditCardOfferController {
 
     private static final Logger log = LoggerFactory.getLogger(CreditCardOfferController.class);
+    private static final String DISABLED_ETAG = "\"offer-disabled\"";
 
     private final WebClient webClient;
     private final AnalyticsEmitter analyticsEmitter;
-
-    @Value("${feature.flags.credit-cards.pre-approved-offers:false}")
-    private boolean preApprovedOffersEnabled;
+    private final CreditCardOfferService offerService;
+    private final CreditCardMetrics metrics;
 
     public CreditCardOfferController(
-            WebClient.Builder webClientBuilder,
-            @Value("${services.credit-card.url:http://localhost:8082}") String creditCardServiceUrl,
-            AnalyticsEmitter analyticsEmitter) {
-        this.webClient = webClientBuilder.baseUrl(creditCardServiceUrl).build();
+            DownstreamClients downstreamClients,
+            AnalyticsEmitter analyticsEmitter,
+            CreditCardOfferService offerService,
+            CreditCardMetrics metrics) {
+        this.webClient = downstreamClients.get("credit-card");
         this.analyticsEmitter = analyticsEmitter;
+        this.offerService = offerService;
+        this.metrics = metrics;
     }
 
     /**
      * Get the user's credit card offer.
+     * Answers 304 when {@code If-None-Match} carries the current ETag; such revalidations are not
+     * counted or emitted as offer views.
      */
     @GetMapping("/offer")
-    public ResponseEntity<?> getOffer(HttpServletRequest request) {
-        String userEcosystemId = (String) request.getAttribute("userEcosystemId");
-        String journeyId = (String) request.getAttribute("journeyId");
+    public ResponseEntity<?> getOffer(WebRequest webRequest) {
+        RequestContext context = RequestContext.current();
+        String userEcosystemId = context.userEcosystemId();
+        String journeyId = context.journeyId();
+
+        if (userEcosystemId == null) {
+            userEcosystemId = "usr_demo_user_001";
+        }
 
-        // Check feature flag
-        if (!preApprovedOffersEnabled) {
-            return ResponseEntity.ok(Map.of(
+        // Empty when the feature flag is off
+        Optional<CreditCardOfferService.CreditCardOffer> offer = offerService.findOffer(userEcosystemId);
+        if (offer.isEmpty()) {
+            if (webRequest.checkNotModified(DISABLED_ETAG)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(DISABLED_ETAG)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(Map.of(
                     "featureEnabled", false,
                     "message", "Pre-approved offers are not currently available"
             ));
         }
 
-        // For MVP, return a mock pre-approved offer
-        // In production, this would call the Credit Card service
-        if (userEcosystemId == null) {
-            userEcosystemId = "usr_demo_user_001";
+        String etag = etag(offer.get());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
         }
 
-        BigDecimal preApprovedLimit = userEcosystemId.contains("admin") 
-                ? new BigDecimal("10000.00") 
-                : new BigDecimal("5000.00");
-
+        // A 304 revalidation is not a new view; only offers actually served are counted
         log.info("Returning credit card offer for user: {}", userEcosystemId);
 
+        metrics.offerViewed();
+
         // Emit analytics event
         analyticsEmitter.emitOfferViewed(journeyId, userEcosystemId,
-                Map.of("limit", preApprovedLimit.doubleValue()));
+                Map.of("limit", offer.get().preApprovedLimit().doubleValue()));
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(offer.get());
+    }
 
-        return ResponseEntity.ok(Map.of(
-                "offerId", "offer_" + userEcosystemId.hashCode(),
-                "preApprovedLimit", preApprovedLimit,
-                "status", "PRE_APPROVED"
-        ));
+    private static String etag(CreditCardOfferService.CreditCardOffer offer) {
+        // Offers are derived data with no version; the ETag is built from every field instead
+        return "\"" + offer.offerId() + "-" + offer.preApprovedLimit().toPlainString() + "-" + offer.status() + "\"";
     }
 }
 
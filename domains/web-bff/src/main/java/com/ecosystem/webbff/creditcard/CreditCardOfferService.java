@@ -0,0 +1,74 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.featureflags.FeatureFlags;
+import com.ecosystem.webbff.observability.RequestContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Service for resolving a user's pre-approved credit card offer.
+ * With remote reads enabled the offer comes from the Credit Card service, falling back to the
+ * local MVP offer when that call fails, is too slow, or is refused by an open circuit.
+ */
+@Service
+public class CreditCardOfferService {
+
+    private static final Logger log = LoggerFactory.getLogger(CreditCardOfferService.class);
+
+    private final CreditCardServiceClient creditCardServiceClient;
+    private final FeatureFlags featureFlags;
+
+    @Value("${credit-card.remote-reads.enabled:false}")
+    private boolean remoteReadsEnabled;
+
+    @Value("${credit-card.remote-reads.timeout:300ms}")
+    private Duration remoteReadTimeout;
+
+    public CreditCardOfferService(CreditCardServiceClient creditCardServiceClient, FeatureFlags featureFlags) {
+        this.creditCardServiceClient = creditCardServiceClient;
+        this.featureFlags = featureFlags;
+    }
+
+    /**
+     * The user's pre-approved offer, or empty when the feature is off for this user.
+     * The flag is evaluated with the caller's role from the request context.
+     */
+    public Optional<CreditCardOffer> findOffer(String userEcosystemId) {
+        if (!featureFlags.isEnabled(FeatureFlags.CREDIT_CARDS_PRE_APPROVED_OFFERS, userEcosystemId,
+                RequestContext.current().role())) {
+            return Optional.empty();
+        }
+
+        if (remoteReadsEnabled) {
+            try {
+                return creditCardServiceClient.getOffer(userEcosystemId, remoteReadTimeout);
+            } catch (RuntimeException e) {
+                log.warn("Remote offer read failed for user {}, using local offer: {}", userEcosystemId, e.getMessage());
+            }
+        }
+
+        // For MVP, return a mock pre-approved offer
+        // In production, this would call the Credit Card service
+        BigDecimal preApprovedLimit = userEcosystemId.contains("admin")
+                ? new BigDecimal("10000.00")
+                : new BigDecimal("5000.00");
+
+        return Optional.of(new CreditCardOffer(
+                "offer_" + userEcosystemId.hashCode(),
+                preApprovedLimit,
+                "PRE_APPROVED"
+        ));
+    }
+
+    public record CreditCardOffer(
+            String offerId,
+            BigDecimal preApprovedLimit,
+            String status
+    ) {}
+}
@@ -1,12 +1,12 @@
 package com.ecosystem.webbff.creditcard;
 
 import com.ecosystem.webbff.analytics.AnalyticsEmitter;
-import jakarta.servlet.http.HttpServletRequest;
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.observability.RequestContext;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -28,10 +28,9 @@ public class CreditCardOnboardingController {
     private final AnalyticsEmitter analyticsEmitter;
 
     public CreditCardOnboardingController(
-            WebClient.Builder webClientBuilder,
-            @Value("${services.credit-card.url:http://localhost:8082}") String creditCardServiceUrl,
+            DownstreamClients downstreamClients,
             AnalyticsEmitter analyticsEmitter) {
-        this.webClient = webClientBuilder.baseUrl(creditCardServiceUrl).build();
+        this.webClient = downstreamClients.get("credit-card");
         this.analyticsEmitter = analyticsEmitter;
     }
 
@@ -40,11 +39,11 @@ public class CreditCardOnboardingController {
      */
     @PostMapping("/sign")
     public ResponseEntity<?> signOnboarding(
-            @Valid @RequestBody SignatureRequest request,
-            HttpServletRequest httpRequest) {
+            @Valid @RequestBody SignatureRequest request) {
 
-        String userEcosystemId = (String) httpRequest.getAttribute("userEcosystemId");
-        String journeyId = (String) httpRequest.getAttribute("journeyId");
+        RequestContext context = RequestContext.current();
+        String userEcosystemId = context.userEcosystemId();
+        String journeyId = context.journeyId();
 
         // Validate signature text
         if (!isValidSignature(request.signature())) {
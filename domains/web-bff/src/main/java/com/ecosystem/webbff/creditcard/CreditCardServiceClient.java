@@ -0,0 +1,58 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.creditcard.CreditCardOfferService.CreditCardOffer;
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.observability.RequestContext;
+import com.ecosystem.webbff.resilience.Bulkhead;
+import com.ecosystem.webbff.resilience.BulkheadRegistry;
+import com.ecosystem.webbff.resilience.CircuitBreaker;
+import com.ecosystem.webbff.resilience.HedgePolicy;
+import com.ecosystem.webbff.resilience.ResiliencePolicies;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Client for Credit Card service reads.
+ * Each attempt passes the route's circuit breaker; the call as a whole may be hedged and runs in
+ * the credit-card bulkhead. Synthetic (warm-up) calls skip the breaker and hedging, so stub latencies
+ * and cold-start slow calls never feed their statistics.
+ */
+@Component
+public class CreditCardServiceClient {
+
+    private final WebClient webClient;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker offerBreaker;
+    private final HedgePolicy offerHedging;
+
+    public CreditCardServiceClient(
+            DownstreamClients downstreamClients,
+            BulkheadRegistry bulkheads,
+            ResiliencePolicies policies) {
+        this.webClient = downstreamClients.get("credit-card");
+        this.bulkhead = bulkheads.get("credit-card");
+        this.offerBreaker = policies.circuitBreaker("credit-card-offer");
+        this.offerHedging = policies.hedgePolicy("credit-card-offer");
+    }
+
+    /**
+     * The user's pre-approved offer from the Credit Card service; empty when there is none.
+     */
+    public Optional<CreditCardOffer> getOffer(String userEcosystemId, Duration timeout) {
+        Mono<CreditCardOffer> call = webClient.get()
+                .uri("/api/offers/{userEcosystemId}", userEcosystemId)
+                .retrieve()
+                .bodyToMono(CreditCardOffer.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+        Mono<CreditCardOffer> offer = RequestContext.current().synthetic()
+                ? call
+                : offerHedging.execute(() -> offerBreaker.decorate(call));
+
+        return bulkhead.call(() -> offer.blockOptional(timeout), timeout);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecosystem.webbff.creditcard;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one credit limit change.
+ */
+@Name("com.ecosystem.webbff.LimitAdjustment")
+@Label("Limit Adjustment")
+@Category({"Ecosystem", "Credit Card"})
+@Description("Credit limit raised for a user")
+@StackTrace(false)
+class LimitAdjustmentEvent extends Event {
+
+    @Label("User Ecosystem ID")
+    String userEcosystemId;
+
+    @Label("Old Limit")
+    double oldLimit;
+
+    @Label("New Limit")
+    double newLimit;
+}
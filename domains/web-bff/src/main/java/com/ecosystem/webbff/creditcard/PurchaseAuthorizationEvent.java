@@ -0,0 +1,28 @@
+package com.ecosystem.webbff.creditcard;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one purchase authorization; costs nothing beyond an allocation while no recording is on.
+ */
+@Name("com.ecosystem.webbff.PurchaseAuthorization")
+@Label("Purchase Authorization")
+@Category({"Ecosystem", "Credit Card"})
+@Description("Simulated purchase checked against the available limit")
+@StackTrace(false)
+class PurchaseAuthorizationEvent extends Event {
+
+    @Label("User Ecosystem ID")
+    String userEcosystemId;
+
+    @Label("Amount")
+    double amount;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,49 @@
+package com.ecosystem.webbff.dashboard;
+
+import com.ecosystem.webbff.analytics.AnalyticsEmitter;
+import com.ecosystem.webbff.observability.RequestContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Controller for the aggregated home screen payload.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final AnalyticsEmitter analyticsEmitter;
+
+    public DashboardController(DashboardService dashboardService, AnalyticsEmitter analyticsEmitter) {
+        this.dashboardService = dashboardService;
+        this.analyticsEmitter = analyticsEmitter;
+    }
+
+    /**
+     * Profile, offer and account in one response, replacing separate calls from the shell.
+     */
+    @GetMapping
+    public ResponseEntity<DashboardService.Dashboard> getDashboard() {
+        RequestContext context = RequestContext.current();
+        String userEcosystemId = context.userEcosystemId();
+        String journeyId = context.journeyId();
+        if (userEcosystemId == null) {
+            userEcosystemId = "usr_demo_user_001";
+        }
+
+        DashboardService.Dashboard dashboard = dashboardService.load(userEcosystemId);
+
+        // Same analytics as the standalone offer endpoint the dashboard replaces
+        if (dashboard.offer() != null) {
+            analyticsEmitter.emitOfferViewed(journeyId, userEcosystemId,
+                    Map.of("limit", dashboard.offer().preApprovedLimit().doubleValue()));
+        }
+
+        return ResponseEntity.ok(dashboard);
+    }
+}
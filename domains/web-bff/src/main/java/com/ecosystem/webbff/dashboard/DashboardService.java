@@ -0,0 +1,111 @@
+package com.ecosystem.webbff.dashboard;
+
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore;
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.AccountSnapshot;
+import com.ecosystem.webbff.creditcard.CreditCardOfferService;
+import com.ecosystem.webbff.creditcard.CreditCardOfferService.CreditCardOffer;
+import com.ecosystem.webbff.observability.RequestContext;
+import com.ecosystem.webbff.user.UserServiceClient;
+import com.ecosystem.webbff.user.UserServiceClient.UserProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the home screen payload by fanning out to every source concurrently.
+ *
+ * Each branch runs on its own virtual thread inside a scope that never outlives the call.
+ * Each branch also has its own deadline. A branch that fails or misses its deadline is
+ * cancelled and reported in {@code degraded}; the other branches are still returned.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private final UserServiceClient userServiceClient;
+    private final CreditCardOfferService offerService;
+    private final CreditCardAccountStore accountStore;
+
+    @Value("${dashboard.timeouts.profile:800ms}")
+    private Duration profileTimeout;
+
+    @Value("${dashboard.timeouts.offer:300ms}")
+    private Duration offerTimeout;
+
+    @Value("${dashboard.timeouts.account:300ms}")
+    private Duration accountTimeout;
+
+    public DashboardService(UserServiceClient userServiceClient,
+                            CreditCardOfferService offerService,
+                            CreditCardAccountStore accountStore) {
+        this.userServiceClient = userServiceClient;
+        this.offerService = offerService;
+        this.accountStore = accountStore;
+    }
+
+    /**
+     * Load every dashboard section for a user. Latency is bounded by the slowest branch deadline.
+     */
+    public Dashboard load(String userEcosystemId) {
+        long start = System.nanoTime();
+        List<String> degraded = new ArrayList<>();
+
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<UserProfile> profile = scope.submit(RequestContext.wrap(() ->
+                    userServiceClient.getUser(userEcosystemId, profileTimeout).orElse(null)));
+            Future<CreditCardOffer> offer = scope.submit(RequestContext.wrap(() ->
+                    offerService.findOffer(userEcosystemId).orElse(null)));
+            Future<AccountSnapshot> account = scope.submit(RequestContext.wrap(() ->
+                    accountStore.snapshot(userEcosystemId)));
+
+            Dashboard dashboard = new Dashboard(
+                    await(profile, start + profileTimeout.toNanos(), "profile", degraded),
+                    await(offer, start + offerTimeout.toNanos(), "offer", degraded),
+                    await(account, start + accountTimeout.toNanos(), "account", degraded),
+                    degraded
+            );
+
+            log.debug("Dashboard for user {} built in {}ms (degraded: {})", userEcosystemId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), degraded);
+            return dashboard;
+        }
+    }
+
+    private <T> T await(Future<T> branch, long deadlineNanos, String name, List<String> degraded) {
+        try {
+            return branch.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            branch.cancel(true);
+            log.warn("Dashboard branch {} timed out", name);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard branch {} failed: {}", name, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            branch.cancel(true);
+        }
+        degraded.add(name);
+        return null;
+    }
+
+    /**
+     * Home screen payload. Sections listed in {@code degraded} are null because their branch failed.
+     */
+    public record Dashboard(
+            UserProfile profile,
+            CreditCardOffer offer,
+            AccountSnapshot account,
+            List<String> degraded
+    ) {}
+}
@@ -1,5 +1,7 @@
 package com.ecosystem.webbff.error;
 
+import com.ecosystem.webbff.resilience.BulkheadFullException;
+import com.ecosystem.webbff.resilience.CircuitOpenException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -66,6 +68,40 @@ public class ErrorHandler {
                 ));
     }
 
+    /**
+     * Handle calls shed by a saturated downstream bulkhead.
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        log.warn("Downstream bulkhead saturated: {}", ex.getBulkhead());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(new ErrorResponse(
+                        "downstream_busy",
+                        "Service temporarily unavailable",
+                        null,
+                        Instant.now().toString()
+                ));
+    }
+
+    /**
+     * Handle calls short-circuited by an open downstream circuit breaker.
+     */
+    @ExceptionHandler(CircuitOpenException.class)
+    public ResponseEntity<ErrorResponse> handleCircuitOpen(CircuitOpenException ex) {
+        log.warn("Downstream circuit open: {}", ex.getRoute());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(new ErrorResponse(
+                        "downstream_unavailable",
+                        "Service temporarily unavailable",
+                        null,
+                        Instant.now().toString()
+                ));
+    }
+
     /**
      * Handle illegal argument exceptions.
      */
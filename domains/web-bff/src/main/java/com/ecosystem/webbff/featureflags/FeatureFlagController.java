@@ -0,0 +1,42 @@
+package com.ecosystem.webbff.featureflags;
+
+import com.ecosystem.webbff.observability.RequestContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Feature flag endpoints for the web shell and operators.
+ */
+@RestController
+public class FeatureFlagController {
+
+    private final FeatureFlags featureFlags;
+
+    public FeatureFlagController(FeatureFlags featureFlags) {
+        this.featureFlags = featureFlags;
+    }
+
+    /**
+     * Every flag evaluated for the caller (anonymous callers only see fully rolled-out flags).
+     */
+    @GetMapping("/api/feature-flags")
+    public ResponseEntity<?> getFlags() {
+        RequestContext context = RequestContext.current();
+        String userEcosystemId = context.userEcosystemId();
+        String role = context.role();
+
+        return ResponseEntity.ok(Map.of("flags", featureFlags.evaluateAll(userEcosystemId, role)));
+    }
+
+    /**
+     * Re-read the flags document now instead of waiting for the next poll.
+     */
+    @PostMapping("/api/admin/feature-flags/reload")
+    public ResponseEntity<?> reload() {
+        return ResponseEntity.ok(Map.of("reloaded", featureFlags.reload()));
+    }
+}
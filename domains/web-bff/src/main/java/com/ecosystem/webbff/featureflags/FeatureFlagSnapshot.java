@@ -0,0 +1,173 @@
+package com.ecosystem.webbff.featureflags;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, pre-compiled set of flags. Built once per reload and then only read, so evaluation
+ * needs no locks and allocates nothing.
+ */
+final class FeatureFlagSnapshot {
+
+    static final int BUCKETS = 10_000;
+
+    private final Map<String, CompiledFlag> flags;
+
+    private FeatureFlagSnapshot(Map<String, CompiledFlag> flags) {
+        this.flags = flags;
+    }
+
+    /**
+     * Compile flag and segment definitions. Unknown segment references are rejected.
+     */
+    static FeatureFlagSnapshot compile(Map<String, FlagSpec> flagSpecs, Map<String, SegmentSpec> segmentSpecs,
+                                       MeterRegistry meterRegistry) {
+        Map<String, Segment> segments = new HashMap<>();
+        segmentSpecs.forEach((name, spec) -> segments.put(name, new Segment(
+                Set.copyOf(orEmpty(spec.userIds())),
+                orEmpty(spec.userIdPrefixes()).toArray(String[]::new),
+                orEmpty(spec.roles()).toArray(String[]::new)
+        )));
+
+        Map<String, CompiledFlag> compiled = new HashMap<>();
+        flagSpecs.forEach((name, spec) -> {
+            Segment[] targeted = orEmpty(spec.segments()).stream()
+                    .map(segment -> {
+                        Segment resolved = segments.get(segment);
+                        if (resolved == null) {
+                            throw new IllegalArgumentException("Flag " + name + " targets unknown segment " + segment);
+                        }
+                        return resolved;
+                    })
+                    .toArray(Segment[]::new);
+            double rollout = spec.rollout() != null ? spec.rollout() : targeted.length == 0 ? 100.0 : 0.0;
+            compiled.put(name, new CompiledFlag(
+                    spec.enabled() == null || spec.enabled(),
+                    (int) Math.round(Math.min(100.0, Math.max(0.0, rollout)) * BUCKETS / 100.0),
+                    targeted,
+                    seed(spec.salt() != null ? spec.salt() : name),
+                    meterRegistry.counter("feature_flag.evaluations", "flag", name, "result", "on"),
+                    meterRegistry.counter("feature_flag.evaluations", "flag", name, "result", "off")
+            ));
+        });
+        return new FeatureFlagSnapshot(Map.copyOf(compiled));
+    }
+
+    /**
+     * Evaluate a flag; unknown flags are off.
+     */
+    boolean isEnabled(String flag, String userEcosystemId, String role) {
+        CompiledFlag compiled = flags.get(flag);
+        if (compiled == null) {
+            return false;
+        }
+        boolean on = compiled.evaluate(userEcosystemId, role);
+        (on ? compiled.on : compiled.off).increment();
+        return on;
+    }
+
+    Set<String> flagNames() {
+        return flags.keySet();
+    }
+
+    /**
+     * Stable bucket in [0, 10000) for a user under a flag's salt; identical across JVMs and restarts.
+     */
+    static int bucket(long seed, String userEcosystemId) {
+        long h = seed;
+        for (int i = 0; i < userEcosystemId.length(); i++) {
+            h ^= userEcosystemId.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return (int) Long.remainderUnsigned(fmix(h), BUCKETS);
+    }
+
+    static long seed(String salt) {
+        // 64-bit FNV-1a over the salt followed by a separator
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < salt.length(); i++) {
+            h ^= salt.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= ':';
+        h *= 0x100000001b3L;
+        return h;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static <T> List<T> orEmpty(List<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    /**
+     * Flag as written in the flags document. Missing {@code enabled} means on. Missing
+     * {@code rollout} means 100%, or 0% when the flag targets segments. The salt defaults to the flag name.
+     */
+    record FlagSpec(Boolean enabled, Double rollout, List<String> segments, String salt) {}
+
+    /**
+     * Named group of users: explicit IDs, ID prefixes or roles (matched case-insensitively).
+     */
+    record SegmentSpec(List<String> userIds, List<String> userIdPrefixes, List<String> roles) {}
+
+    private record Segment(Set<String> userIds, String[] userIdPrefixes, String[] roles) {
+
+        boolean matches(String userEcosystemId, String role) {
+            if (role != null) {
+                // The User service issues "ADMIN"; documents usually say "admin"
+                for (String targeted : roles) {
+                    if (targeted.equalsIgnoreCase(role)) {
+                        return true;
+                    }
+                }
+            }
+            if (userEcosystemId == null) {
+                return false;
+            }
+            if (userIds.contains(userEcosystemId)) {
+                return true;
+            }
+            for (String prefix : userIdPrefixes) {
+                if (userEcosystemId.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record CompiledFlag(boolean enabled, int rolloutBuckets, Segment[] segments, long seed,
+                                Counter on, Counter off) {
+
+        boolean evaluate(String userEcosystemId, String role) {
+            if (!enabled) {
+                return false;
+            }
+            for (Segment segment : segments) {
+                if (segment.matches(userEcosystemId, role)) {
+                    return true;
+                }
+            }
+            if (rolloutBuckets >= BUCKETS) {
+                return true;
+            }
+            if (rolloutBuckets <= 0 || userEcosystemId == null) {
+                return false;
+            }
+            return bucket(seed, userEcosystemId) < rolloutBuckets;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.ecosystem.webbff.featureflags;
+
+import com.ecosystem.webbff.featureflags.FeatureFlagSnapshot.FlagSpec;
+import com.ecosystem.webbff.featureflags.FeatureFlagSnapshot.SegmentSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feature flag engine for the BFF.
+ *
+ * Flags come from {@code feature.flags.*} properties (plain on/off, e.g. from
+ * FEATURE_FLAG_* env vars) overlaid by an optional flags document at {@code flag-engine.source}
+ * (any Spring resource location: file:, classpath: or http(s):). The document adds per-user
+ * percentage rollouts and segment targeting. It is polled and, when its content changes,
+ * compiled into a new immutable snapshot that replaces the old one in a single volatile write.
+ */
+@Component
+public class FeatureFlags {
+
+    private static final Logger log = LoggerFactory.getLogger(FeatureFlags.class);
+
+    public static final String CREDIT_CARDS_PRE_APPROVED_OFFERS = "credit-cards.pre-approved-offers";
+
+    private final Environment environment;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Resource source;
+    private final Counter reloadFailures;
+    private final ScheduledExecutorService poller;
+
+    private volatile FeatureFlagSnapshot snapshot;
+    private byte[] loadedDocument;
+
+    public FeatureFlags(
+            Environment environment,
+            ResourceLoader resourceLoader,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${flag-engine.source:}") String sourceLocation,
+            @Value("${flag-engine.reload-interval:5s}") Duration reloadInterval) {
+        this.environment = environment;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.source = sourceLocation.isBlank() ? null : resourceLoader.getResource(sourceLocation);
+        this.reloadFailures = Counter.builder("feature_flag.reload_failures")
+                .description("Flags documents that could not be read or compiled")
+                .register(meterRegistry);
+
+        reload();
+
+        if (source != null) {
+            this.poller = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("feature-flags-reload").daemon(true).factory());
+            poller.scheduleWithFixedDelay(this::reload,
+                    reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.poller = null;
+        }
+    }
+
+    /**
+     * Whether a flag is on for a user. Unknown flags are off. Pass the caller's role, or null
+     * when anonymous, so role-targeted segments apply.
+     */
+    public boolean isEnabled(String flag, String userEcosystemId, String role) {
+        return snapshot.isEnabled(flag, userEcosystemId, role);
+    }
+
+    /**
+     * Every known flag evaluated for one user.
+     */
+    public Map<String, Boolean> evaluateAll(String userEcosystemId, String role) {
+        FeatureFlagSnapshot current = snapshot;
+        Map<String, Boolean> result = new TreeMap<>();
+        for (String flag : current.flagNames()) {
+            result.put(flag, current.isEnabled(flag, userEcosystemId, role));
+        }
+        return result;
+    }
+
+    /**
+     * Re-read the flags document and swap in a new snapshot if it changed.
+     * A document that cannot be read or compiled leaves the current snapshot in place.
+     *
+     * @return true if a new snapshot was installed
+     */
+    public synchronized boolean reload() {
+        try {
+            byte[] document = source != null ? read(source) : null;
+            if (snapshot != null && Arrays.equals(document, loadedDocument)) {
+                return false;
+            }
+
+            Map<String, FlagSpec> flags = new HashMap<>(propertyFlags());
+            Map<String, SegmentSpec> segments = Map.of();
+            if (document != null) {
+                FlagsDocument parsed = objectMapper.readValue(document, FlagsDocument.class);
+                if (parsed.flags() != null) {
+                    flags.putAll(parsed.flags());
+                }
+                if (parsed.segments() != null) {
+                    segments = parsed.segments();
+                }
+            }
+
+            snapshot = FeatureFlagSnapshot.compile(flags, segments, meterRegistry);
+            loadedDocument = document;
+            log.info("Loaded {} feature flags", flags.size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            reloadFailures.increment();
+            if (snapshot == null) {
+                throw new IllegalStateException("Could not load feature flags", e);
+            }
+            log.error("Feature flag reload failed, keeping previous flags: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    private Map<String, FlagSpec> propertyFlags() {
+        Map<String, Object> tree = Binder.get(environment)
+                .bind("feature.flags", Bindable.mapOf(String.class, Object.class))
+                .orElse(Map.of());
+        Map<String, FlagSpec> flags = new LinkedHashMap<>();
+        flatten("", tree, flags);
+        return flags;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flatten(String prefix, Map<String, Object> tree, Map<String, FlagSpec> flags) {
+        tree.forEach((key, value) -> {
+            String name = prefix.isEmpty() ? key : prefix + "." + key;
+            if (value instanceof Map<?, ?> nested) {
+                flatten(name, (Map<String, Object>) nested, flags);
+            } else {
+                flags.put(name, new FlagSpec(Boolean.parseBoolean(String.valueOf(value)), 100.0, null, null));
+            }
+        });
+    }
+
+    private static byte[] read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Flags document layout: {@code {"segments": {...}, "flags": {...}}}.
+     */
+    record FlagsDocument(Map<String, SegmentSpec> segments, Map<String, FlagSpec> flags) {}
+}
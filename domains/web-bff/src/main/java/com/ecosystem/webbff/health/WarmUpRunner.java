@@ -0,0 +1,321 @@
+package com.ecosystem.webbff.health;
+
+import com.ecosystem.webbff.auth.TokenService;
+import com.ecosystem.webbff.http.SyntheticTraffic;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JIT warm-up before the BFF reports ready.
+ *
+ * Once the server listens, synthetic journeys go through the real HTTP stack on loopback (filters,
+ * auth, Jackson, the purchase path, the WebClient pipelines) so the hot code is compiled before
+ * production traffic arrives. Requests are marked synthetic: downstream calls go to in-process
+ * stubs, rate limits, circuit breakers and hedging ignore them, and they act as dedicated warm-up
+ * users. Journeys run in {@code rounds}; the log line and the {@code bff.warmup.*} gauges report the
+ * duration and the p99 of the first and last round. {@code /ready} stays down until warm-up ends;
+ * failing or running past {@code max-duration} ends it too, so warm-up never keeps the BFF out of
+ * rotation for long.
+ */
+@Component
+public class WarmUpRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmUpRunner.class);
+
+    private static final int PURCHASES_PER_JOURNEY = 3;
+
+    private final SyntheticTraffic syntheticTraffic;
+    private final TokenService tokenService;
+    private final Environment environment;
+    private final boolean enabled;
+    private final int journeys;
+    private final int rounds;
+    private final int concurrency;
+    private final Duration maxDuration;
+
+    private volatile Result result = Result.of(Status.PENDING);
+
+    public WarmUpRunner(
+            SyntheticTraffic syntheticTraffic,
+            TokenService tokenService,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${warm-up.enabled:true}") boolean enabled,
+            @Value("${warm-up.journeys:200}") int journeys,
+            @Value("${warm-up.rounds:10}") int rounds,
+            @Value("${warm-up.concurrency:4}") int concurrency,
+            @Value("${warm-up.max-duration:60s}") Duration maxDuration) {
+        this.syntheticTraffic = syntheticTraffic;
+        this.tokenService = tokenService;
+        this.environment = environment;
+        this.enabled = enabled;
+        this.journeys = Math.max(journeys, 1);
+        this.rounds = Math.max(Math.min(rounds, this.journeys), 1);
+        this.concurrency = Math.max(concurrency, 1);
+        this.maxDuration = maxDuration;
+
+        Gauge.builder("bff.warmup.duration", this, r -> r.result.durationMs())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("bff.warmup.latency.p99", this, r -> r.result.firstRoundP99Ms())
+                .tag("round", "first")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("bff.warmup.latency.p99", this, r -> r.result.lastRoundP99Ms())
+                .tag("round", "last")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public Result result() {
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) {
+            result = Result.of(Status.SKIPPED);
+            return;
+        }
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            // No listening server (mock servlet environment), nothing to warm up through
+            result = Result.of(Status.SKIPPED);
+            return;
+        }
+        result = Result.of(Status.RUNNING);
+        Thread.ofVirtual().name("warm-up").start(() -> run("http://127.0.0.1:" + port));
+    }
+
+    private void run(String baseUrl) {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicInteger completed = new AtomicInteger();
+        AtomicLong stubCalls = new AtomicLong();
+        double firstP99 = 0;
+        double lastP99 = 0;
+
+        try (WarmUpStubs stubs = new WarmUpStubs();
+             ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            stubs.baseUrls().forEach(syntheticTraffic::stub);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(1))
+                    .executor(workers)
+                    .build();
+
+            for (int round = 0; round < rounds && System.nanoTime() < deadline; round++) {
+                int size = journeys / rounds + (round < journeys % rounds ? 1 : 0);
+                List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+                AtomicInteger next = new AtomicInteger();
+
+                List<Runnable> tasks = new ArrayList<>();
+                for (int worker = 0; worker < concurrency; worker++) {
+                    Journey journey = new Journey(client, baseUrl, "usr-warmup-" + worker, latencies, requests, errors);
+                    tasks.add(() -> {
+                        while (next.getAndIncrement() < size && System.nanoTime() < deadline) {
+                            journey.run(completed.incrementAndGet());
+                        }
+                    });
+                }
+                workers.invokeAll(tasks.stream().map(Executors::callable).toList());
+
+                lastP99 = p99Millis(latencies);
+                if (round == 0) {
+                    firstP99 = lastP99;
+                }
+            }
+            // Let fire-and-forget downstream calls land before the stubs go away
+            stubs.awaitQuiet(200, 2_000);
+            stubCalls.set(stubs.calls());
+
+            Status status = System.nanoTime() < deadline ? Status.DONE : Status.TIMED_OUT;
+            result = new Result(status, elapsedMillis(start), completed.get(), requests.get(), errors.get(),
+                    stubCalls.get(), firstP99, lastP99, null);
+            log.info("Warm-up {} in {}ms: {} journeys, {} requests, {} errors, {} stubbed downstream calls, "
+                            + "p99 {}ms in the first round, {}ms in the last",
+                    status == Status.DONE ? "done" : "stopped at max-duration", result.durationMs(), completed.get(),
+                    requests.get(), errors.get(), stubCalls.get(), format(firstP99), format(lastP99));
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            result = new Result(Status.FAILED, elapsedMillis(start), completed.get(), requests.get(), errors.get(),
+                    stubCalls.get(), firstP99, lastP99, e.getClass().getSimpleName() + ": " + e.getMessage());
+            log.warn("Warm-up failed after {}ms, reporting ready without it: {}", result.durationMs(), result.error());
+        } finally {
+            syntheticTraffic.clearStubs();
+        }
+    }
+
+    private static double p99Millis(List<Long> latencies) {
+        if (latencies.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        int index = (int) Math.ceil(sorted.length * 0.99) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String format(double millis) {
+        return String.format("%.1f", millis);
+    }
+
+    /**
+     * One warm-up user's journey: the demo login, then the dashboard and credit-card flows with a
+     * token for the warm-up user, so no real account is touched. No logout, which would only add
+     * the token to the revocation list.
+     */
+    private final class Journey {
+
+        private final HttpClient client;
+        private final String baseUrl;
+        private final String bearer;
+        private final List<Long> latencies;
+        private final AtomicLong requests;
+        private final AtomicLong errors;
+
+        Journey(HttpClient client, String baseUrl, String userEcosystemId,
+                List<Long> latencies, AtomicLong requests, AtomicLong errors) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.bearer = tokenService.generateToken("warmup", userEcosystemId, "user");
+            this.latencies = latencies;
+            this.requests = requests;
+            this.errors = errors;
+        }
+
+        void run(int n) {
+            String journeyId = "jrn_warmup_" + n;
+            boolean ok = send(journeyId, null, "POST", "/api/user/session/login",
+                    "{\"username\":\"user\",\"password\":\"user\"}")
+                    && send(journeyId, bearer, "GET", "/api/feature-flags", null)
+                    && send(journeyId, bearer, "GET", "/api/credit-card/offer", null)
+                    && send(journeyId, bearer, "POST", "/api/credit-card/onboarding/sign",
+                    "{\"signature\":\"I agree\"}");
+            for (int i = 0; ok && i < PURCHASES_PER_JOURNEY; i++) {
+                ok = send(journeyId, bearer, "POST", "/api/credit-card/actions/simulate-purchase", "");
+            }
+            ok = ok
+                    && send(journeyId, bearer, "POST", "/api/credit-card/actions/raise-limit", "")
+                    && send(journeyId, bearer, "GET", "/api/credit-card/account", null)
+                    && send(journeyId, bearer, "GET", "/api/dashboard", null);
+            // Always put the warm-up account back to its starting state
+            send(journeyId, bearer, "POST", "/api/credit-card/actions/reset", "");
+        }
+
+        private boolean send(String journeyId, String bearer, String method, String path, String body) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(5))
+                    .header(SyntheticTraffic.HEADER, syntheticTraffic.token())
+                    .header("x-journey-id", journeyId)
+                    .method(method, body == null
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofString(body));
+            if (body != null) {
+                request.header("Content-Type", "application/json");
+            }
+            if (bearer != null) {
+                request.header("Authorization", "Bearer " + bearer);
+            }
+
+            requests.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                latencies.add(System.nanoTime() - start);
+                if (response.statusCode() / 100 != 2) {
+                    errors.incrementAndGet();
+                    log.debug("Warm-up {} {} returned {}", method, path, response.statusCode());
+                    return false;
+                }
+                return true;
+            } catch (IOException e) {
+                errors.incrementAndGet();
+                log.debug("Warm-up {} {} failed: {}", method, path, e.getMessage());
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    public enum Status {
+        PENDING, RUNNING, DONE, TIMED_OUT, SKIPPED, FAILED;
+
+        /**
+         * Warm-up no longer holds back readiness.
+         */
+        public boolean finished() {
+            return this != PENDING && this != RUNNING;
+        }
+    }
+
+    public record Result(
+            Status status,
+            long durationMs,
+            int journeys,
+            long requests,
+            long errors,
+            long stubCalls,
+            double firstRoundP99Ms,
+            double lastRoundP99Ms,
+            String error
+    ) {
+        static Result of(Status status) {
+            return new Result(status, 0, 0, 0, 0, 0, 0, 0, null);
+        }
+
+        /**
+         * The {@code warm-up} entry of the readiness checks.
+         */
+        public Map<String, Object> toCheck() {
+            Map<String, Object> check = new LinkedHashMap<>();
+            check.put("status", status.name().toLowerCase());
+            if (status == Status.DONE || status == Status.TIMED_OUT || status == Status.FAILED) {
+                check.put("durationMs", durationMs);
+                check.put("journeys", journeys);
+                check.put("requests", requests);
+                check.put("errors", errors);
+                check.put("stubCalls", stubCalls);
+                check.put("firstRoundP99Ms", firstRoundP99Ms);
+                check.put("p99Ms", lastRoundP99Ms);
+            }
+            if (error != null) {
+                check.put("error", error);
+            }
+            return check;
+        }
+    }
+}
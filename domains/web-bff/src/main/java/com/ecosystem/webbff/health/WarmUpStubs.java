@@ -0,0 +1,91 @@
+package com.ecosystem.webbff.health;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loopback stand-ins for the downstreams during warm-up, one path prefix per downstream on an
+ * ephemeral port. Answers are canned and immediate; nothing is stored.
+ */
+final class WarmUpStubs implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong lastRequestNanos = new AtomicLong(System.nanoTime());
+    private final AtomicLong calls = new AtomicLong();
+    private final HttpServer server;
+
+    WarmUpStubs() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        server.setExecutor(executor);
+        server.createContext("/user/api/users/batch-get",
+                exchange -> respond(exchange, 200, "{\"users\":[],\"notFound\":[]}"));
+        server.createContext("/credit-card/api/offers/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String userEcosystemId = path.substring(path.lastIndexOf('/') + 1);
+            respond(exchange, 200, "{\"offerId\":\"offer_" + userEcosystemId
+                    + "\",\"preApprovedLimit\":5000.00,\"status\":\"PRE_APPROVED\"}");
+        });
+        server.createContext("/analytics/api/analytics/events",
+                exchange -> respond(exchange, 202, "{\"status\":\"accepted\"}"));
+        server.start();
+    }
+
+    /**
+     * Stub base URL per downstream name.
+     */
+    Map<String, String> baseUrls() {
+        String origin = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+        return Map.of(
+                "user", origin + "/user",
+                "credit-card", origin + "/credit-card",
+                "analytics", origin + "/analytics");
+    }
+
+    /**
+     * Calls answered so far.
+     */
+    long calls() {
+        return calls.get();
+    }
+
+    /**
+     * Wait until no call has arrived for {@code quietMillis}, so fire-and-forget calls (analytics)
+     * still in flight find the stubs up; gives up after {@code maxMillis}.
+     */
+    void awaitQuiet(long quietMillis, long maxMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + maxMillis * 1_000_000;
+        while (System.nanoTime() < deadline
+                && System.nanoTime() - lastRequestNanos.get() < quietMillis * 1_000_000) {
+            Thread.sleep(quietMillis / 4 + 1);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        calls.incrementAndGet();
+        lastRequestNanos.set(System.nanoTime());
+        try (exchange; InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+}
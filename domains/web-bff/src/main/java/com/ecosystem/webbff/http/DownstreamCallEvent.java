@@ -0,0 +1,34 @@
+package com.ecosystem.webbff.http;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one HTTP exchange with a downstream, from request to response headers.
+ */
+@Name("com.ecosystem.webbff.DownstreamCall")
+@Label("Downstream Call")
+@Category({"Ecosystem", "HTTP"})
+@Description("HTTP request to a downstream service")
+@StackTrace(false)
+class DownstreamCallEvent extends Event {
+
+    @Label("Downstream")
+    String downstream;
+
+    @Label("Method")
+    String method;
+
+    @Label("URI")
+    String uri;
+
+    @Label("Status")
+    int status;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,184 @@
+package com.ecosystem.webbff.http;
+
+import com.ecosystem.webbff.observability.RequestContext;
+import com.ecosystem.webbff.observability.RequestContextAccessor;
+import io.micrometer.common.KeyValue;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * One shared, pooled WebClient per downstream (credit-card, user, analytics).
+ *
+ * The base URL comes from {@code services.<name>.url}; pool and protocol settings from
+ * {@code services.<name>.http.*}. Pool gauges ({@code reactor.netty.connection.provider.*})
+ * and request timers ({@code http.client.requests}) are tagged with the downstream name.
+ * Calls made for synthetic requests are diverted to stubs (see {@link SyntheticTraffic}).
+ */
+@Component
+public class DownstreamClients {
+
+    private static final Logger log = LoggerFactory.getLogger(DownstreamClients.class);
+
+    // Set by WebClient when a request is built from a URI template
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    private final WebClient.Builder webClientBuilder;
+    private final Environment environment;
+    private final SyntheticTraffic syntheticTraffic;
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, ConnectionProvider> pools = new ConcurrentHashMap<>();
+
+    public DownstreamClients(
+            WebClient.Builder webClientBuilder,
+            Environment environment,
+            SyntheticTraffic syntheticTraffic) {
+        this.webClientBuilder = webClientBuilder;
+        this.environment = environment;
+        this.syntheticTraffic = syntheticTraffic;
+    }
+
+    /**
+     * The shared client for a downstream, built from configuration on first use.
+     */
+    public WebClient get(String name) {
+        return clients.computeIfAbsent(name, this::create);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pools.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient create(String name) {
+        String baseUrl = environment.getRequiredProperty("services." + name + ".url");
+        String prefix = "services." + name + ".http.";
+        Function<String, Duration> duration = key -> environment.getProperty(prefix + key, Duration.class);
+
+        ConnectionProvider pool = ConnectionProvider.builder(name)
+                .maxConnections(environment.getProperty(prefix + "max-connections", Integer.class, 50))
+                .pendingAcquireMaxCount(environment.getProperty(prefix + "pending-acquire-max", Integer.class, 500))
+                .pendingAcquireTimeout(orDefault(duration.apply("pending-acquire-timeout"), Duration.ofSeconds(2)))
+                .maxIdleTime(orDefault(duration.apply("max-idle-time"), Duration.ofSeconds(30)))
+                .maxLifeTime(orDefault(duration.apply("max-life-time"), Duration.ofMinutes(5)))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        pools.put(name, pool);
+
+        boolean http2 = environment.getProperty(prefix + "http2", Boolean.class, false);
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        (int) orDefault(duration.apply("connect-timeout"), Duration.ofSeconds(1)).toMillis())
+                .responseTimeout(orDefault(duration.apply("response-timeout"), Duration.ofSeconds(5)))
+                .compress(environment.getProperty(prefix + "compression", Boolean.class, true))
+                .keepAlive(true)
+                // Tag by downstream name rather than raw URI so the metric cardinality stays fixed
+                .metrics(true, uri -> name);
+        httpClient = http2
+                ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                : httpClient.protocol(HttpProtocol.HTTP11);
+
+        log.info("Created HTTP client for {} at {} (http2={})", name, baseUrl, http2);
+
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter((request, next) -> divertSynthetic(name, request, next))
+                .filter((request, next) -> recordCall(name, request, next))
+                .observationConvention(new DefaultClientRequestObservationConvention() {
+                    @Override
+                    protected KeyValue clientName(ClientRequestObservationContext context) {
+                        return KeyValue.of("client.name", name);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Send a synthetic request's call to the downstream's stub, keeping path and query. The context is
+     * read from the thread, or from the subscriber when the call is made on a Reactor thread.
+     */
+    private Mono<ClientResponse> divertSynthetic(String name, ClientRequest request, ExchangeFunction next) {
+        return Mono.deferContextual(subscriber -> {
+            RequestContext context = RequestContext.current();
+            if (!context.synthetic()) {
+                context = subscriber.getOrDefault(RequestContextAccessor.KEY, RequestContext.EMPTY);
+            }
+            if (!context.synthetic()) {
+                return next.exchange(request);
+            }
+            String stub = syntheticTraffic.stubFor(name);
+            if (stub == null) {
+                return Mono.error(new IllegalStateException("No stub for synthetic call to " + name));
+            }
+            String query = request.url().getRawQuery();
+            URI url = URI.create(stub + request.url().getRawPath() + (query != null ? "?" + query : ""));
+            return next.exchange(ClientRequest.from(request).url(url).build());
+        });
+    }
+
+    /**
+     * Emit a JFR event per exchange; a no-op pass-through while no recording has the event enabled.
+     */
+    private static Mono<ClientResponse> recordCall(String name, ClientRequest request, ExchangeFunction next) {
+        DownstreamCallEvent event = new DownstreamCallEvent();
+        if (!event.isEnabled()) {
+            return next.exchange(request);
+        }
+        event.begin();
+        return next.exchange(request)
+                .doOnNext(response -> event.status = response.statusCode().value())
+                .doFinally(signal -> {
+                    if (event.shouldCommit()) {
+                        event.downstream = name;
+                        event.method = request.method().name();
+                        event.uri = request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                                .map(template -> stripOrigin(template.toString()))
+                                .orElse(request.url().getPath());
+                        event.outcome = switch (signal) {
+                            case ON_ERROR -> "error";
+                            case CANCEL -> "cancelled";
+                            default -> "completed";
+                        };
+                        event.commit();
+                    }
+                });
+    }
+
+    /**
+     * The template carries the expanded base URL; the downstream name already identifies the host.
+     */
+    private static String stripOrigin(String template) {
+        int scheme = template.indexOf("://");
+        if (scheme < 0) {
+            return template;
+        }
+        int path = template.indexOf('/', scheme + 3);
+        return path < 0 ? "/" : template.substring(path);
+    }
+
+    private static Duration orDefault(Duration value, Duration fallback) {
+        return value != null ? value : fallback;
+    }
+}
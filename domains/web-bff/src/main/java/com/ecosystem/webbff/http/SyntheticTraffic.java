@@ -0,0 +1,74 @@
+package com.ecosystem.webbff.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Marks the BFF's own warm-up requests and routes their downstream calls.
+ *
+ * A request is synthetic when it carries {@link #HEADER} with this process's random token and comes
+ * from the loopback interface, so clients cannot opt into it. Downstream calls made for a synthetic
+ * request go to the stub registered for that downstream, and fail when there is none, so warm-up never
+ * reaches a real service.
+ */
+@Component
+public class SyntheticTraffic {
+
+    public static final String HEADER = "x-synthetic-traffic";
+
+    private final byte[] token;
+    private final Map<String, String> stubs = new ConcurrentHashMap<>();
+
+    public SyntheticTraffic() {
+        byte[] random = new byte[16];
+        new SecureRandom().nextBytes(random);
+        this.token = HexFormat.of().formatHex(random).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Value of {@link #HEADER} for requests this process sends to itself.
+     */
+    public String token() {
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    public boolean isSynthetic(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        return value != null
+                && MessageDigest.isEqual(value.getBytes(StandardCharsets.US_ASCII), token)
+                && isLoopback(request.getRemoteAddr());
+    }
+
+    /**
+     * Send synthetic calls for a downstream to a stub base URL until {@link #clearStubs()}.
+     */
+    public void stub(String downstream, String baseUrl) {
+        stubs.put(downstream, baseUrl);
+    }
+
+    public void clearStubs() {
+        stubs.clear();
+    }
+
+    String stubFor(String downstream) {
+        return stubs.get(downstream);
+    }
+
+    private static boolean isLoopback(String address) {
+        try {
+            // The remote address is an IP literal, so this does not resolve anything
+            return address != null && InetAddress.getByName(address).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.ecosystem.webbff.observability;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.MDC;
+import com.ecosystem.webbff.http.SyntheticTraffic;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
@@ -14,11 +16,13 @@ import java.io.IOException;
 import java.util.UUID;
 
 /**
- * Filter that extracts correlation headers and adds them to the MDC for logging.
- * Also generates a request ID if not present.
+ * Filter that extracts correlation headers into the {@link RequestContext} for the request,
+ * which mirrors them into the MDC for logging. Also generates a request ID if not present.
+ *
+ * Runs right after the OpenTelemetry server filter so the server span's IDs are part of the context.
  */
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
 public class CorrelationFilter extends OncePerRequestFilter {
 
     public static final String HEADER_JOURNEY_ID = "x-journey-id";
@@ -28,42 +32,49 @@ public class CorrelationFilter extends OncePerRequestFilter {
     public static final String MDC_JOURNEY_ID = "journeyId";
     public static final String MDC_USER_ECOSYSTEM_ID = "userEcosystemId";
     public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_TRACE_ID = "traceId";
+    public static final String MDC_SPAN_ID = "spanId";
+
+    private final SyntheticTraffic syntheticTraffic;
+
+    public CorrelationFilter(SyntheticTraffic syntheticTraffic) {
+        this.syntheticTraffic = syntheticTraffic;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            // Extract or generate correlation IDs
-            String journeyId = request.getHeader(HEADER_JOURNEY_ID);
-            String userEcosystemId = request.getHeader(HEADER_USER_ECOSYSTEM_ID);
-            String requestId = request.getHeader(HEADER_REQUEST_ID);
-
-            if (requestId == null || requestId.isEmpty()) {
-                requestId = "req_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
-            }
+        // Extract or generate correlation IDs
+        String journeyId = request.getHeader(HEADER_JOURNEY_ID);
+        String userEcosystemId = request.getHeader(HEADER_USER_ECOSYSTEM_ID);
+        String requestId = request.getHeader(HEADER_REQUEST_ID);
 
-            // Add to MDC for logging
-            if (journeyId != null && !journeyId.isEmpty()) {
-                MDC.put(MDC_JOURNEY_ID, journeyId);
-            }
-            if (userEcosystemId != null && !userEcosystemId.isEmpty()) {
-                MDC.put(MDC_USER_ECOSYSTEM_ID, userEcosystemId);
-            }
-            MDC.put(MDC_REQUEST_ID, requestId);
+        if (requestId == null || requestId.isEmpty()) {
+            requestId = "req_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        }
 
-            // Add request ID to response for debugging
-            response.setHeader(HEADER_REQUEST_ID, requestId);
+        SpanContext span = Span.current().getSpanContext();
+        RequestContext context = new RequestContext(
+                requestId,
+                emptyToNull(journeyId),
+                emptyToNull(userEcosystemId),
+                null,
+                null,
+                span.isValid() ? span.getTraceId() : null,
+                span.isValid() ? span.getSpanId() : null,
+                syntheticTraffic.isSynthetic(request)
+        );
 
-            // Store in request attributes for downstream use
-            request.setAttribute(MDC_JOURNEY_ID, journeyId);
-            request.setAttribute(MDC_USER_ECOSYSTEM_ID, userEcosystemId);
-            request.setAttribute(MDC_REQUEST_ID, requestId);
+        // Add request ID to response for debugging
+        response.setHeader(HEADER_REQUEST_ID, requestId);
 
+        try (RequestContext.Scope ignored = context.open()) {
             filterChain.doFilter(request, response);
-        } finally {
-            MDC.clear();
         }
     }
-}
 
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,167 @@
+package com.ecosystem.webbff.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batches spans for export, keeping sampled spans plus unsampled ones that failed or ran slow.
+ *
+ * Kept unsampled spans are limited by their own per-second budget so an outage cannot flood the
+ * exporter. Spans beyond the export queue are dropped here and counted, rather than silently
+ * inside the batch processor.
+ */
+final class ErrorBiasedSpanProcessor implements SpanProcessor {
+
+    private final SpanProcessor batch;
+    private final long slowThresholdNanos;
+    private final AdaptiveSampler.RateBudget keptBudget;
+    private final int maxQueueSize;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter keptSampled;
+    private final Counter keptError;
+    private final Counter keptSlow;
+    private final Counter droppedUnsampled;
+    private final Counter droppedBudget;
+    private final Counter droppedQueueFull;
+    private final Counter exported;
+    private final Counter exportFailed;
+
+    ErrorBiasedSpanProcessor(SpanExporter exporter, ExportSettings settings, Duration slowThreshold,
+                             double maxKeptPerSecond, MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.keptBudget = new AdaptiveSampler.RateBudget(maxKeptPerSecond);
+        this.maxQueueSize = settings.maxQueueSize();
+        this.batch = BatchSpanProcessor.builder(new CountingExporter(exporter))
+                .setMaxQueueSize(settings.maxQueueSize())
+                .setMaxExportBatchSize(settings.maxBatchSize())
+                .setScheduleDelay(settings.scheduleDelay())
+                .setExporterTimeout(settings.exportTimeout())
+                .setExportUnsampledSpans(true)
+                .build();
+
+        this.keptSampled = spans(meterRegistry, "tracing.spans.kept", "reason", "sampled");
+        this.keptError = spans(meterRegistry, "tracing.spans.kept", "reason", "error");
+        this.keptSlow = spans(meterRegistry, "tracing.spans.kept", "reason", "slow");
+        this.droppedUnsampled = spans(meterRegistry, "tracing.spans.dropped", "reason", "unsampled");
+        this.droppedBudget = spans(meterRegistry, "tracing.spans.dropped", "reason", "budget");
+        this.droppedQueueFull = spans(meterRegistry, "tracing.spans.dropped", "reason", "queue_full");
+        this.exported = spans(meterRegistry, "tracing.spans.exported", "result", "success");
+        this.exportFailed = spans(meterRegistry, "tracing.spans.exported", "result", "failure");
+        Gauge.builder("tracing.spans.pending", pending, AtomicInteger::get)
+                .description("Spans queued or in flight to the exporter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        if (span.getSpanContext().isSampled()) {
+            enqueue(span, keptSampled);
+            return;
+        }
+
+        Counter reason;
+        if (span.getLatencyNanos() >= slowThresholdNanos) {
+            reason = keptSlow;
+        } else if (span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR) {
+            reason = keptError;
+        } else {
+            droppedUnsampled.increment();
+            return;
+        }
+
+        if (!keptBudget.tryAcquire()) {
+            droppedBudget.increment();
+            return;
+        }
+        enqueue(span, reason);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return batch.forceFlush();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return batch.shutdown();
+    }
+
+    private void enqueue(ReadableSpan span, Counter reason) {
+        if (pending.incrementAndGet() > maxQueueSize) {
+            pending.decrementAndGet();
+            droppedQueueFull.increment();
+            return;
+        }
+        reason.increment();
+        batch.onEnd(span);
+    }
+
+    private static Counter spans(MeterRegistry meterRegistry, String name, String tag, String value) {
+        return Counter.builder(name)
+                .tag(tag, value)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Batch export tuning, mirroring the {@link BatchSpanProcessor} settings.
+     */
+    record ExportSettings(int maxQueueSize, int maxBatchSize, Duration scheduleDelay, Duration exportTimeout) {}
+
+    private final class CountingExporter implements SpanExporter {
+
+        private final SpanExporter delegate;
+
+        CountingExporter(SpanExporter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            int size = spans.size();
+            pending.addAndGet(-size);
+            CompletableResultCode result = delegate.export(spans);
+            result.whenComplete(() -> (result.isSuccess() ? exported : exportFailed).increment(size));
+            return result;
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return delegate.flush();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return delegate.shutdown();
+        }
+    }
+}
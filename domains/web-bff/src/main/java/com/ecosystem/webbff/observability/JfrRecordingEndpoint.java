@@ -0,0 +1,150 @@
+package com.ecosystem.webbff.observability;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * On-demand JDK Flight Recorder control at {@code /actuator/jfr}.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr}: state of the current recording</li>
+ *   <li>{@code POST /actuator/jfr}: start one; optional JSON body {@code {"settings": "default|profile", "duration": "10m"}}</li>
+ *   <li>{@code DELETE /actuator/jfr}: stop it, keeping the data for a dump</li>
+ *   <li>{@code GET /actuator/jfr/dump}: download the recording so far as a .jfr file</li>
+ * </ul>
+ *
+ * Only one recording exists at a time. It is bounded by {@code jfr.max-size} and {@code jfr.max-age},
+ * and stops on its own after {@code duration} (capped at {@code jfr.max-duration}).
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "on-demand";
+
+    private final DataSize maxSize;
+    private final Duration maxAge;
+    private final Duration maxDuration;
+    private final Duration defaultDuration;
+    private Recording recording;
+
+    public JfrRecordingEndpoint(
+            @Value("${jfr.max-size:64MB}") DataSize maxSize,
+            @Value("${jfr.max-age:15m}") Duration maxAge,
+            @Value("${jfr.max-duration:30m}") Duration maxDuration,
+            @Value("${jfr.default-duration:5m}") Duration defaultDuration) {
+        this.maxSize = maxSize;
+        this.maxAge = maxAge;
+        this.maxDuration = maxDuration;
+        this.defaultDuration = defaultDuration;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "none");
+            return status;
+        }
+        status.put("state", recording.getState().name().toLowerCase());
+        status.put("startTime", String.valueOf(recording.getStartTime()));
+        status.put("duration", String.valueOf(recording.getDuration()));
+        status.put("sizeBytes", recording.getSize());
+        status.put("maxSizeBytes", recording.getMaxSize());
+        status.put("maxAge", String.valueOf(recording.getMaxAge()));
+        return status;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(
+            @Nullable String settings,
+            @Nullable Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(
+                    Map.of("error", "already_running", "message", "Stop the current recording first"), 409);
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(
+                    Map.of("error", "unknown_settings", "message", "Use default or profile"), WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        discard();
+        Duration requested = duration != null ? duration : defaultDuration;
+        recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.setMaxAge(maxAge);
+        recording.setDuration(requested.compareTo(maxDuration) > 0 ? maxDuration : requested);
+        recording.start();
+        return new WebEndpointResponse<>(status());
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(Map.of("error", "not_running", "message", "No recording is running"), 409);
+        }
+        recording.stop();
+        return new WebEndpointResponse<>(status());
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump(@Selector String file) {
+        if (!"dump".equals(file) || recording == null || recording.getState() == RecordingState.NEW) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path path = Files.createTempFile("jfr-", ".jfr");
+            try {
+                recording.dump(path);
+                return new WebEndpointResponse<>(new ByteArrayResource(Files.readAllBytes(path)));
+            } finally {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Release the recording and its disk chunks on shutdown.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        discard();
+    }
+
+    private void discard() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
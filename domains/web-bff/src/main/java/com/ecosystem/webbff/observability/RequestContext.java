@@ -0,0 +1,127 @@
+package com.ecosystem.webbff.observability;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Correlation data for the request being served: built once by {@link CorrelationFilter},
+ * completed with the caller by the auth filter, and read everywhere else through {@link #current()}.
+ *
+ * The current context is a thread local mirrored into the MDC. {@link #wrap} carries it onto other
+ * threads as a single reference, and Reactor restores it on its own threads through the
+ * context-propagation registry (see {@link RequestContextAccessor}), so async log lines stay correlated.
+ *
+ * {@code synthetic} marks the BFF's own warm-up traffic, whose downstream calls go to in-process stubs.
+ */
+public record RequestContext(
+        String requestId,
+        String journeyId,
+        String userEcosystemId,
+        String username,
+        String role,
+        String traceId,
+        String spanId,
+        boolean synthetic
+) {
+
+    public static final RequestContext EMPTY = new RequestContext(null, null, null, null, null, null, null, false);
+
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The context of the request this thread works for, or {@link #EMPTY} outside of one.
+     */
+    public static RequestContext current() {
+        RequestContext context = CURRENT.get();
+        return context != null ? context : EMPTY;
+    }
+
+    /**
+     * Copy with the caller from a verified token.
+     */
+    public RequestContext withUser(String userEcosystemId, String username, String role) {
+        return new RequestContext(requestId, journeyId, userEcosystemId, username, role, traceId, spanId, synthetic);
+    }
+
+    /**
+     * True once a token was verified; the user ID may otherwise come from a client header.
+     */
+    public boolean authenticated() {
+        return username != null;
+    }
+
+    /**
+     * Make this the current context until the scope is closed, then restore the previous one.
+     */
+    public Scope open() {
+        RequestContext previous = CURRENT.get();
+        install(this);
+        return () -> install(previous);
+    }
+
+    /**
+     * Bind a task to the caller's context, for work handed to another thread.
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        RequestContext captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = captured.open()) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * Bind a task to the caller's context, for work handed to another thread.
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestContext captured = CURRENT.get();
+        if (captured == null) {
+            return task;
+        }
+        return () -> {
+            try (Scope ignored = captured.open()) {
+                task.run();
+            }
+        };
+    }
+
+    static RequestContext peek() {
+        return CURRENT.get();
+    }
+
+    static void install(RequestContext context) {
+        if (context == null) {
+            CURRENT.remove();
+            context = EMPTY;
+        } else {
+            CURRENT.set(context);
+        }
+        mdc(CorrelationFilter.MDC_REQUEST_ID, context.requestId);
+        mdc(CorrelationFilter.MDC_JOURNEY_ID, context.journeyId);
+        mdc(CorrelationFilter.MDC_USER_ECOSYSTEM_ID, context.userEcosystemId);
+        mdc(CorrelationFilter.MDC_TRACE_ID, context.traceId);
+        mdc(CorrelationFilter.MDC_SPAN_ID, context.spanId);
+    }
+
+    private static void mdc(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+
+    /**
+     * Restores the previous context on close.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
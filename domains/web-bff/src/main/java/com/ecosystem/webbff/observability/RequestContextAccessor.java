@@ -0,0 +1,34 @@
+package com.ecosystem.webbff.observability;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Exposes {@link RequestContext} to the context-propagation registry, which loads it from
+ * {@code META-INF/services}. With {@code spring.reactor.context-propagation=auto}, Reactor captures it
+ * when a pipeline is subscribed or blocked on and restores it (MDC included) around operators running
+ * on Netty threads.
+ */
+public class RequestContextAccessor implements ThreadLocalAccessor<RequestContext> {
+
+    public static final String KEY = "ecosystem.request-context";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public RequestContext getValue() {
+        return RequestContext.peek();
+    }
+
+    @Override
+    public void setValue(RequestContext value) {
+        RequestContext.install(value);
+    }
+
+    @Override
+    public void setValue() {
+        RequestContext.install(null);
+    }
+}
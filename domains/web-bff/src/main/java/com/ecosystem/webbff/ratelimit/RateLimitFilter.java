@@ -0,0 +1,75 @@
+package com.ecosystem.webbff.ratelimit;
+
+import com.ecosystem.webbff.error.ErrorHandler.ErrorResponse;
+import com.ecosystem.webbff.observability.RequestContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Per-user rate limiting, applied after authentication.
+ * Requests over their route's budget get 429 with a Retry-After header.
+ * Synthetic (warm-up) requests are not counted.
+ */
+@Component
+@Order(20) // After auth filter
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final RateLimitPolicies policies;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitPolicies policies, ObjectMapper objectMapper) {
+        this.policies = policies;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RequestContext context = RequestContext.current();
+        RateLimitPolicies.RoutePolicy policy = policies.resolve(request.getMethod(), request.getRequestURI());
+        if (policy == null || context.synthetic()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Without a verified token, the user ID comes from a client header and could be rotated
+        // to dodge the limit, so key on the address instead
+        String userEcosystemId = context.authenticated() ? context.userEcosystemId() : null;
+
+        long retryAfterMillis = policy.tryAcquire(userEcosystemId, request.getRemoteAddr(), policies.nowMillis());
+        if (retryAfterMillis == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.debug("Rate limited {} on route {}", userEcosystemId != null ? userEcosystemId : request.getRemoteAddr(),
+                policy.getName());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString((retryAfterMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                "rate_limited",
+                "Too many requests, please retry later",
+                null,
+                Instant.now().toString()
+        ));
+    }
+}
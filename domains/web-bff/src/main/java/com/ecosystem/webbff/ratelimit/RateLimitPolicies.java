@@ -0,0 +1,148 @@
+package com.ecosystem.webbff.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route rate-limit policies, configured under {@code rate-limit.routes.<name>}
+ * (method, path, capacity, refill-per-second). Each route limits users and anonymous client IPs
+ * in separate bucket sets; requests on other {@code /api} paths use {@code rate-limit.default}
+ * when it is enabled.
+ */
+@Component
+public class RateLimitPolicies {
+
+    private final Map<String, List<RoutePolicy>> byPath = new HashMap<>();
+    private final RoutePolicy defaultPolicy;
+    private final List<RoutePolicy> all = new ArrayList<>();
+    private final long originNanos = System.nanoTime();
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rate-limit-eviction").daemon(true).factory());
+
+    public RateLimitPolicies(
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.eviction-interval:30s}") Duration evictionInterval) {
+        Map<String, RouteSpec> routes = Binder.get(environment)
+                .bind("rate-limit.routes", Bindable.mapOf(String.class, RouteSpec.class))
+                .orElse(Map.of());
+        routes.forEach((name, spec) -> {
+            RoutePolicy policy = new RoutePolicy(name, spec.method(), spec.capacity(), spec.refillPerSecond(), meterRegistry);
+            byPath.computeIfAbsent(spec.path(), path -> new ArrayList<>()).add(policy);
+            all.add(policy);
+        });
+
+        RouteSpec fallback = Binder.get(environment)
+                .bind("rate-limit.default", RouteSpec.class)
+                .orElse(null);
+        if (environment.getProperty("rate-limit.default.enabled", Boolean.class, false) && fallback != null) {
+            defaultPolicy = new RoutePolicy("default", null, fallback.capacity(), fallback.refillPerSecond(), meterRegistry);
+            all.add(defaultPolicy);
+        } else {
+            defaultPolicy = null;
+        }
+
+        for (RoutePolicy policy : all) {
+            Gauge.builder("bff.rate_limit.buckets", policy, p -> p.users.size() + p.clients.size())
+                    .tag("route", policy.name)
+                    .description("Live token buckets")
+                    .register(meterRegistry);
+        }
+        evictor.scheduleWithFixedDelay(this::evictIdle,
+                evictionInterval.toMillis(), evictionInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The policy for a request, or null when the route is not limited.
+     */
+    public RoutePolicy resolve(String method, String path) {
+        List<RoutePolicy> candidates = byPath.get(path);
+        if (candidates != null) {
+            for (int i = 0; i < candidates.size(); i++) {
+                RoutePolicy policy = candidates.get(i);
+                if (policy.method == null || policy.method.equalsIgnoreCase(method)) {
+                    return policy;
+                }
+            }
+        }
+        return defaultPolicy != null && path.startsWith("/api/") ? defaultPolicy : null;
+    }
+
+    /**
+     * Milliseconds on a monotonic clock local to this component.
+     */
+    public long nowMillis() {
+        return (System.nanoTime() - originNanos) / 1_000_000;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        evictor.shutdownNow();
+    }
+
+    private void evictIdle() {
+        long now = nowMillis();
+        for (RoutePolicy policy : all) {
+            policy.users.evictIdle(now);
+            policy.clients.evictIdle(now);
+        }
+    }
+
+    /**
+     * Buckets for one route: authenticated users and anonymous client addresses are kept apart.
+     */
+    public static final class RoutePolicy {
+
+        private final String name;
+        private final String method;
+        private final TokenBucketLimiter users;
+        private final TokenBucketLimiter clients;
+        private final Counter rejected;
+
+        RoutePolicy(String name, String method, int capacity, double refillPerSecond, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.method = method;
+            this.users = new TokenBucketLimiter(name, capacity, refillPerSecond);
+            this.clients = new TokenBucketLimiter(name, capacity, refillPerSecond);
+            this.rejected = Counter.builder("bff.rate_limit.rejected")
+                    .tag("route", name)
+                    .description("Requests answered with 429")
+                    .register(meterRegistry);
+        }
+
+        /**
+         * @return 0 if allowed, otherwise milliseconds until the caller may retry
+         */
+        public long tryAcquire(String userEcosystemId, String clientAddress, long nowMillis) {
+            long retryAfter = userEcosystemId != null
+                    ? users.tryAcquire(userEcosystemId, nowMillis)
+                    : clients.tryAcquire(clientAddress, nowMillis);
+            if (retryAfter > 0) {
+                rejected.increment();
+            }
+            return retryAfter;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    record RouteSpec(String method, String path, int capacity, double refillPerSecond) {}
+}
@@ -0,0 +1,99 @@
+package com.ecosystem.webbff.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets for one rate-limit policy, one bucket per client key.
+ *
+ * Each bucket is a single {@link AtomicLong} packing the last refill time (upper 40 bits, ms)
+ * and the balance in milli-tokens (lower 24 bits). Refill happens lazily on access and updates
+ * are a CAS, so the hot path takes no lock and allocates nothing once the bucket exists.
+ * A bucket idle long enough to have refilled completely is indistinguishable from a new one
+ * and is evicted.
+ */
+public final class TokenBucketLimiter {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+
+    private final String name;
+    private final long capacityMilli;
+    private final double refillPerMilli;
+    private final long fullRefillMillis;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketLimiter(String name, int capacity, double refillPerSecond) {
+        if (capacity < 1 || capacity * MILLI > TOKEN_MASK) {
+            throw new IllegalArgumentException("Rate limit capacity must be between 1 and " + TOKEN_MASK / MILLI);
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit refill must be positive");
+        }
+        this.name = name;
+        this.capacityMilli = capacity * MILLI;
+        // One token per second is one milli-token per millisecond
+        this.refillPerMilli = refillPerSecond;
+        this.fullRefillMillis = (long) Math.ceil(capacityMilli / refillPerMilli);
+    }
+
+    /**
+     * Take one token for a key.
+     *
+     * @param nowMillis monotonic milliseconds, non-negative and below 2^40
+     * @return 0 if allowed, otherwise milliseconds until a token is available
+     */
+    public long tryAcquire(String key, long nowMillis) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(pack(nowMillis, capacityMilli)));
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long last = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+
+            long refill = nowMillis > last ? (long) ((nowMillis - last) * refillPerMilli) : 0;
+            long available = Math.min(capacityMilli, tokens + refill);
+            // Only move the refill clock when whole milli-tokens were added, so slow rates keep their fractions
+            long refilledAt = refill > 0 ? nowMillis : last;
+
+            if (available < MILLI) {
+                return Math.max(1, (long) Math.ceil((MILLI - available) / refillPerMilli));
+            }
+            if (bucket.compareAndSet(state, pack(refilledAt, available - MILLI))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have been idle long enough to be full again.
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle(long nowMillis) {
+        int evicted = 0;
+        for (var entry : buckets.entrySet()) {
+            long last = entry.getValue().get() >>> TOKEN_BITS;
+            if (nowMillis - last > fullRefillMillis && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static long pack(long millis, long milliTokens) {
+        return (millis << TOKEN_BITS) | milliTokens;
+    }
+}
@@ -0,0 +1,233 @@
+package com.ecosystem.webbff.resilience;
+
+import com.ecosystem.webbff.observability.RequestContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Isolates calls to one downstream on its own executor with its own concurrency limit.
+ *
+ * At most {@code maxConcurrent} tasks run at once and at most {@code queueCapacity} more
+ * wait. Beyond that the rejection policy applies, so a slow downstream can only ever tie up
+ * its own slots, never request threads or another downstream's slots. Non-blocking calls
+ * ({@link #execute}) share the same slots but hold no thread while in flight.
+ */
+public class Bulkhead {
+
+    /**
+     * What to do with work that does not fit: fail it, or silently drop it (best-effort traffic).
+     */
+    public enum RejectionPolicy {
+        FAIL,
+        DROP
+    }
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxAdmitted;
+    private final RejectionPolicy rejectionPolicy;
+    private final ExecutorService executor;
+
+    private final Semaphore running;
+    private final AtomicInteger admitted = new AtomicInteger();
+
+    private final Counter rejected;
+    private final Counter dropped;
+    private final Timer queueWait;
+
+    public Bulkhead(String name, int maxConcurrent, int queueCapacity, RejectionPolicy rejectionPolicy,
+                    boolean virtualThreads, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxAdmitted = this.maxConcurrent + Math.max(0, queueCapacity);
+        this.rejectionPolicy = rejectionPolicy;
+        this.running = new Semaphore(this.maxConcurrent);
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("bulkhead-" + name + "-", 0).factory())
+                : Executors.newFixedThreadPool(this.maxConcurrent,
+                        Thread.ofPlatform().name("bulkhead-" + name + "-", 0).daemon(true).factory());
+
+        this.rejected = Counter.builder("bff.bulkhead.rejected")
+                .tag("bulkhead", name)
+                .description("Calls turned away because the bulkhead was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("bff.bulkhead.dropped")
+                .tag("bulkhead", name)
+                .description("Best-effort calls silently dropped because the bulkhead was full")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("bff.bulkhead.queue_wait")
+                .tag("bulkhead", name)
+                .description("Time a call waited for a free slot")
+                .register(meterRegistry);
+        Gauge.builder("bff.bulkhead.in_flight", this, Bulkhead::inFlight)
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bff.bulkhead.queued", this, b -> Math.max(0, b.admitted.get() - b.inFlight()))
+                .tag("bulkhead", name)
+                .register(meterRegistry);
+        Gauge.builder("bff.bulkhead.saturation", this, b -> (double) b.inFlight() / b.maxConcurrent)
+                .tag("bulkhead", name)
+                .description("Share of concurrent slots in use")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run a (typically blocking) task on this bulkhead's executor.
+     * When the bulkhead is full the future fails with {@link BulkheadFullException},
+     * or completes with null under the DROP policy. Cancelling the future interrupts the task,
+     * or keeps it from starting when it is still queued.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (admitted.incrementAndGet() > maxAdmitted) {
+            admitted.decrementAndGet();
+            return reject();
+        }
+
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Set by whichever comes first: the task starting, or a cancellation while it was still queued
+        AtomicBoolean claimed = new AtomicBoolean();
+        FutureTask<Void> work = new FutureTask<>(RequestContext.wrap(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                running.acquire();
+            } catch (InterruptedException e) {
+                admitted.decrementAndGet();
+                result.completeExceptionally(e);
+                return;
+            }
+            queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = task.get();
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                release();
+            }
+            // Completed while the caller's context is still installed, so dependent callbacks log with it
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }), null);
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                if (claimed.compareAndSet(false, true)) {
+                    admitted.decrementAndGet();
+                }
+                work.cancel(true);
+            }
+        });
+        try {
+            executor.execute(work);
+            return result;
+        } catch (RuntimeException e) {
+            admitted.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Run a non-blocking call under this bulkhead's concurrency limit without holding a thread while
+     * it is in flight. A slot is taken on subscription and freed when the call terminates or is
+     * cancelled. Nothing waits for a slot: when all are busy the rejection policy applies straight away,
+     * failing with {@link BulkheadFullException} or completing empty under the DROP policy.
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!running.tryAcquire()) {
+                return countRejection() ? Mono.<T>empty() : Mono.<T>error(new BulkheadFullException(name));
+            }
+            admitted.incrementAndGet();
+            Mono<T> inFlight;
+            try {
+                inFlight = call.get();
+            } catch (RuntimeException e) {
+                release();
+                return Mono.error(e);
+            }
+            return inFlight.doFinally(signal -> release());
+        });
+    }
+
+    /**
+     * Run a task through the bulkhead and wait for its result.
+     * Meant for callers that are themselves off the request path (e.g. virtual threads).
+     * On timeout the task is interrupted, so its slot frees up as soon as it reacts.
+     */
+    public <T> T call(Supplier<T> task, Duration timeout) {
+        CompletableFuture<T> future = submit(task);
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new CompletionException(e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private int inFlight() {
+        return maxConcurrent - running.availablePermits();
+    }
+
+    private void release() {
+        running.release();
+        admitted.decrementAndGet();
+    }
+
+    private <T> CompletableFuture<T> reject() {
+        return countRejection()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.failedFuture(new BulkheadFullException(name));
+    }
+
+    /**
+     * Count work that did not fit; true when the policy drops it rather than failing it.
+     */
+    private boolean countRejection() {
+        if (rejectionPolicy == RejectionPolicy.DROP) {
+            dropped.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named bulkheads, one per downstream (credit-card, user, analytics).
+ *
+ * Each is configured under {@code resilience.bulkheads.<name>}:
+ * max-concurrent, queue-capacity, rejection-policy (fail|drop) and virtual-threads.
+ */
+@Component
+public class BulkheadRegistry {
+
+    private static final String PREFIX = "resilience.bulkheads.";
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public BulkheadRegistry(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * The bulkhead for a downstream, created from configuration on first use.
+     */
+    public Bulkhead get(String name) {
+        return bulkheads.computeIfAbsent(name, this::create);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkheads.values().forEach(Bulkhead::shutdown);
+    }
+
+    private Bulkhead create(String name) {
+        String prefix = PREFIX + name + ".";
+        return new Bulkhead(
+                name,
+                environment.getProperty(prefix + "max-concurrent", Integer.class, 32),
+                environment.getProperty(prefix + "queue-capacity", Integer.class, 64),
+                Bulkhead.RejectionPolicy.valueOf(
+                        environment.getProperty(prefix + "rejection-policy", "fail").toUpperCase()),
+                environment.getProperty(prefix + "virtual-threads", Boolean.class, true),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,222 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker for one downstream route.
+ *
+ * Closed: calls flow and outcomes fill a sliding window of the last {@code windowSize} calls.
+ * Once at least {@code minimumCalls} are recorded and either the failure rate or the slow-call
+ * rate reaches its threshold, the breaker opens and rejects calls for {@code openDuration}.
+ * It then goes half-open and lets {@code halfOpenProbes} calls through. If every probe
+ * succeeds quickly the breaker closes; any failed or slow probe opens it again.
+ */
+public class CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    // Ring buffer of outcomes; guarded by this
+    private final byte[] outcomes;
+    private int head;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    private final Counter notPermitted;
+    private final MeterRegistry meterRegistry;
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          double slowCallRateThreshold, Duration slowCallDuration, Duration openDuration,
+                          int halfOpenProbes, MeterRegistry meterRegistry) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold, slowCallDuration,
+                openDuration, halfOpenProbes, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                   double slowCallRateThreshold, Duration slowCallDuration, Duration openDuration,
+                   int halfOpenProbes, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.name = name;
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.clock = clock;
+        this.outcomes = new byte[this.windowSize];
+        this.meterRegistry = meterRegistry;
+
+        this.notPermitted = Counter.builder("bff.circuit_breaker.not_permitted")
+                .tag("route", name)
+                .description("Calls rejected because the circuit was open")
+                .register(meterRegistry);
+        Gauge.builder("bff.circuit_breaker.state", this, b -> b.getState().ordinal())
+                .tag("route", name)
+                .description("0 = closed, 1 = half-open, 2 = open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Wrap a call: fails with {@link CircuitOpenException} without subscribing when not permitted,
+     * otherwise records the call's outcome and latency. 4xx responses count as successes since they
+     * say nothing about the downstream's health.
+     */
+    public <T> Mono<T> decorate(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new CircuitOpenException(name));
+            }
+            long start = clock.getAsLong();
+            AtomicBoolean settled = new AtomicBoolean();
+            return call
+                    .doOnSuccess(value -> {
+                        if (settled.compareAndSet(false, true)) {
+                            onResult(clock.getAsLong() - start, false);
+                        }
+                    })
+                    .doOnError(error -> {
+                        if (settled.compareAndSet(false, true)) {
+                            onResult(clock.getAsLong() - start, isFailure(error));
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (settled.compareAndSet(false, true)) {
+                            onCancel();
+                        }
+                    });
+        });
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openNanos) {
+            // Report what the next caller would see
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openNanos) {
+                notPermitted.increment();
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probesSucceeded >= halfOpenProbes) {
+                notPermitted.increment();
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    synchronized void onResult(long durationNanos, boolean failed) {
+        byte outcome = failed ? FAILURE : durationNanos >= slowCallNanos ? SLOW : SUCCESS;
+
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (outcome != SUCCESS) {
+                transition(State.OPEN);
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // A call admitted before the breaker opened; it no longer changes anything
+            return;
+        }
+
+        if (recorded == windowSize) {
+            byte evicted = outcomes[head];
+            if (evicted == FAILURE) failures--;
+            if (evicted == SLOW) slowCalls--;
+        } else {
+            recorded++;
+        }
+        outcomes[head] = outcome;
+        head = (head + 1) % windowSize;
+        if (outcome == FAILURE) failures++;
+        if (outcome == SLOW) slowCalls++;
+
+        if (recorded >= minimumCalls
+                && ((double) failures / recorded >= failureRateThreshold
+                || (double) slowCalls / recorded >= slowCallRateThreshold)) {
+            transition(State.OPEN);
+        }
+    }
+
+    synchronized void onCancel() {
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    private void transition(State next) {
+        log.info("Circuit breaker {} {} -> {} (failures={}, slow={}, calls={})",
+                name, state, next, failures, slowCalls, recorded);
+        meterRegistry.counter("bff.circuit_breaker.transitions", "route", name, "to", next.name()).increment();
+        state = next;
+        probesInFlight = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            head = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+
+    private static boolean isFailure(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecosystem.webbff.resilience;
+
+/**
+ * Thrown instead of calling a downstream route whose circuit breaker is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private final String route;
+
+    public CircuitOpenException(String route) {
+        super("Circuit for '" + route + "' is open");
+        this.route = route;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+}
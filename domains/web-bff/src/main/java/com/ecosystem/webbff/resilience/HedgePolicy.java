@@ -0,0 +1,174 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Hedging for one idempotent downstream route.
+ *
+ * If the first attempt has not answered within the route's recent p95 latency (clamped to
+ * [min-delay, max-delay]), a second identical attempt is sent and the first answer wins;
+ * the loser is cancelled. Hedges draw from a token budget that refills by {@code budgetRatio}
+ * per request, so hedging can never add more than that share of extra load.
+ */
+public class HedgePolicy {
+
+    private static final long MILLI_TOKENS = 1000;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final String name;
+    private final boolean enabled;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long budgetPerRequest;
+    private final long budgetCapacity;
+
+    // Recent successful attempt latencies, written from any Reactor thread; the hedge delay is
+    // recomputed from them periodically. An original beaten by its hedge is recorded with the time
+    // it had run when cancelled, so slow originals are not lost from the p95
+    private final AtomicLongArray samples;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long hedgeDelayNanos;
+
+    private final AtomicLong budget;
+
+    private final Counter issued;
+    private final Counter won;
+    private final Counter budgetExhausted;
+
+    public HedgePolicy(String name, boolean enabled, Duration minDelay, Duration maxDelay, double budgetRatio,
+                       int budgetCapacity, int sampleWindow, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = enabled;
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = Math.max(minDelay.toNanos(), maxDelay.toNanos());
+        this.budgetPerRequest = Math.round(budgetRatio * MILLI_TOKENS);
+        this.budgetCapacity = Math.max(1, budgetCapacity) * MILLI_TOKENS;
+        this.samples = new AtomicLongArray(Math.max(RECOMPUTE_EVERY, sampleWindow));
+        this.hedgeDelayNanos = maxDelayNanos;
+        this.budget = new AtomicLong(this.budgetCapacity);
+
+        this.issued = Counter.builder("bff.hedge.issued")
+                .tag("route", name)
+                .description("Hedge attempts sent")
+                .register(meterRegistry);
+        this.won = Counter.builder("bff.hedge.won")
+                .tag("route", name)
+                .description("Hedge attempts that answered before the original")
+                .register(meterRegistry);
+        this.budgetExhausted = Counter.builder("bff.hedge.budget_exhausted")
+                .tag("route", name)
+                .description("Hedges skipped because the budget was spent")
+                .register(meterRegistry);
+        Gauge.builder("bff.hedge.delay", this, p -> p.hedgeDelayNanos / 1_000_000.0)
+                .tag("route", name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the call, hedging it once if it is slower than the current delay.
+     * Each invocation of {@code attempt} must produce a fresh, independent request.
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> attempt) {
+        if (!enabled) {
+            return attempt.get();
+        }
+        refill();
+
+        return Mono.<Optional<T>>create(sink -> {
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicInteger outstanding = new AtomicInteger(1);
+            Disposable.Composite inFlight = Disposables.composite();
+            sink.onDispose(inFlight);
+
+            long originalStart = System.nanoTime();
+            Consumer<Boolean> launch = hedge -> {
+                long start = hedge ? System.nanoTime() : originalStart;
+                inFlight.add(attempt.get()
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .subscribe(result -> {
+                            if (done.compareAndSet(false, true)) {
+                                long now = System.nanoTime();
+                                record(now - start);
+                                if (hedge) {
+                                    record(now - originalStart);
+                                    won.increment();
+                                }
+                                sink.success(result);
+                            }
+                        }, error -> {
+                            if (outstanding.decrementAndGet() == 0 && done.compareAndSet(false, true)) {
+                                sink.error(error);
+                            }
+                        }));
+            };
+
+            launch.accept(false);
+            inFlight.add(Mono.delay(Duration.ofNanos(hedgeDelayNanos)).subscribe(tick -> {
+                if (done.get()) {
+                    return;
+                }
+                if (!tryWithdraw()) {
+                    budgetExhausted.increment();
+                    return;
+                }
+                outstanding.incrementAndGet();
+                issued.increment();
+                launch.accept(true);
+            }));
+        }).flatMap(Mono::justOrEmpty);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    long currentDelayNanos() {
+        return hedgeDelayNanos;
+    }
+
+    private void refill() {
+        budget.getAndUpdate(tokens -> Math.min(budgetCapacity, tokens + budgetPerRequest));
+    }
+
+    private boolean tryWithdraw() {
+        long tokens;
+        do {
+            tokens = budget.get();
+            if (tokens < MILLI_TOKENS) {
+                return false;
+            }
+        } while (!budget.compareAndSet(tokens, tokens - MILLI_TOKENS));
+        return true;
+    }
+
+    private void record(long latencyNanos) {
+        long n = sampleCount.getAndIncrement();
+        samples.set((int) (n % samples.length()), latencyNanos);
+        if ((n + 1) % RECOMPUTE_EVERY == 0) {
+            long[] window = new long[(int) Math.min(n + 1, samples.length())];
+            for (int i = 0; i < window.length; i++) {
+                window[i] = samples.get(i);
+            }
+            Arrays.sort(window);
+            long p95 = window[(int) Math.ceil(window.length * 0.95) - 1];
+            hedgeDelayNanos = Math.min(maxDelayNanos, Math.max(minDelayNanos, p95));
+        }
+    }
+}
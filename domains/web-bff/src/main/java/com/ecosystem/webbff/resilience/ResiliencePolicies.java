@@ -0,0 +1,66 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named circuit breakers and hedge policies, one per downstream route (e.g. {@code credit-card-offer}).
+ *
+ * Circuit breakers are configured under {@code resilience.circuit-breakers.<route>}, hedging under
+ * {@code resilience.hedging.<route>}; hedging is off unless enabled for the route.
+ */
+@Component
+public class ResiliencePolicies {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, HedgePolicy> hedgePolicies = new ConcurrentHashMap<>();
+
+    public ResiliencePolicies(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public CircuitBreaker circuitBreaker(String route) {
+        return circuitBreakers.computeIfAbsent(route, name -> {
+            String prefix = "resilience.circuit-breakers." + name + ".";
+            return new CircuitBreaker(
+                    name,
+                    environment.getProperty(prefix + "window-size", Integer.class, 50),
+                    environment.getProperty(prefix + "minimum-calls", Integer.class, 20),
+                    environment.getProperty(prefix + "failure-rate-threshold", Double.class, 0.5),
+                    environment.getProperty(prefix + "slow-call-rate-threshold", Double.class, 0.8),
+                    duration(prefix + "slow-call-duration", Duration.ofSeconds(1)),
+                    duration(prefix + "open-duration", Duration.ofSeconds(10)),
+                    environment.getProperty(prefix + "half-open-probes", Integer.class, 3),
+                    meterRegistry
+            );
+        });
+    }
+
+    public HedgePolicy hedgePolicy(String route) {
+        return hedgePolicies.computeIfAbsent(route, name -> {
+            String prefix = "resilience.hedging." + name + ".";
+            return new HedgePolicy(
+                    name,
+                    environment.getProperty(prefix + "enabled", Boolean.class, false),
+                    duration(prefix + "min-delay", Duration.ofMillis(20)),
+                    duration(prefix + "max-delay", Duration.ofMillis(250)),
+                    environment.getProperty(prefix + "budget-ratio", Double.class, 0.05),
+                    environment.getProperty(prefix + "budget-capacity", Integer.class, 10),
+                    environment.getProperty(prefix + "sample-window", Integer.class, 256),
+                    meterRegistry
+            );
+        });
+    }
+
+    private Duration duration(String key, Duration fallback) {
+        return environment.getProperty(key, Duration.class, fallback);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecosystem.webbff.user;
+
+import com.ecosystem.webbff.http.DownstreamClients;
+import com.ecosystem.webbff.resilience.Bulkhead;
+import com.ecosystem.webbff.resilience.BulkheadRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Client for the User service.
+ * Calls block and are meant to be made from virtual threads or other non-request threads.
+ * Every call runs in the user bulkhead and fails fast with {@code BulkheadFullException} when it is full.
+ */
+@Component
+public class UserServiceClient {
+
+    private final WebClient webClient;
+    private final Bulkhead bulkhead;
+
+    public UserServiceClient(
+            DownstreamClients downstreamClients,
+            BulkheadRegistry bulkheads) {
+        this.webClient = downstreamClients.get("user");
+        this.bulkhead = bulkheads.get("user");
+    }
+
+    /**
+     * Resolve many users in a single call to the batch endpoint.
+     */
+    public List<UserProfile> batchGet(Collection<String> userEcosystemIds, Duration timeout) {
+        BatchGetResponse response = bulkhead.call(() -> webClient.post()
+                .uri("/api/users/batch-get")
+                .bodyValue(Map.of("userEcosystemIds", userEcosystemIds))
+                .retrieve()
+                .bodyToMono(BatchGetResponse.class)
+                .block(timeout), timeout);
+        return response != null && response.users() != null ? response.users() : List.of();
+    }
+
+    /**
+     * Resolve a single user.
+     */
+    public Optional<UserProfile> getUser(String userEcosystemId, Duration timeout) {
+        return batchGet(List.of(userEcosystemId), timeout).stream().findFirst();
+    }
+
+    public record UserProfile(String userEcosystemId, String username, String role) {}
+
+    record BatchGetResponse(List<UserProfile> users, List<String> notFound) {}
+}
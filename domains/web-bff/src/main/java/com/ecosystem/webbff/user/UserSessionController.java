@@ -1,7 +1,8 @@
 package com.ecosystem.webbff.user;
 
-import com.ecosystem.webbff.analytics.AnalyticsClient;
+import com.ecosystem.webbff.analytics.AnalyticsEmitter;
 import com.ecosystem.webbff.auth.TokenService;
+import com.ecosystem.webbff.observability.RequestContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
@@ -11,9 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Instant;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Controller for user session management (login/logout).
@@ -25,19 +24,18 @@ public class UserSessionController {
     private static final Logger log = LoggerFactory.getLogger(UserSessionController.class);
 
     private final TokenService tokenService;
-    private final AnalyticsClient analyticsClient;
+    private final AnalyticsEmitter analyticsEmitter;
 
-    public UserSessionController(TokenService tokenService, AnalyticsClient analyticsClient) {
+    public UserSessionController(TokenService tokenService, AnalyticsEmitter analyticsEmitter) {
         this.tokenService = tokenService;
-        this.analyticsClient = analyticsClient;
+        this.analyticsEmitter = analyticsEmitter;
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(
-            @Valid @RequestBody LoginRequest request,
-            HttpServletRequest httpRequest) {
+            @Valid @RequestBody LoginRequest request) {
 
-        String journeyId = (String) httpRequest.getAttribute("journeyId");
+        String journeyId = RequestContext.current().journeyId();
 
         log.info("Login attempt for user: {}", request.username());
 
@@ -57,7 +55,7 @@ public class UserSessionController {
         String token = tokenService.generateToken(demoUser.username(), demoUser.userEcosystemId(), demoUser.role());
 
         // Emit analytics event
-        emitLoginEvent(journeyId, demoUser.userEcosystemId());
+        analyticsEmitter.emitLoggedIn(journeyId, demoUser.userEcosystemId());
 
         log.info("Login successful for user: {} ({})", request.username(), demoUser.userEcosystemId());
 
@@ -71,23 +69,20 @@ public class UserSessionController {
 
     @PostMapping("/logout")
     public ResponseEntity<?> logout(HttpServletRequest httpRequest) {
-        String journeyId = (String) httpRequest.getAttribute("journeyId");
-        String userEcosystemId = (String) httpRequest.getAttribute("userEcosystemId");
+        RequestContext context = RequestContext.current();
+        String journeyId = context.journeyId();
+        String userEcosystemId = context.userEcosystemId();
 
         log.info("Logout for user: {}", userEcosystemId);
 
+        String authHeader = httpRequest.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            tokenService.revokeToken(authHeader.substring("Bearer ".length()));
+        }
+
         // Emit logout event
         if (journeyId != null && userEcosystemId != null) {
-            analyticsClient.sendEvent(AnalyticsClient.AnalyticsEvent.builder()
-                    .eventId("evt_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16))
-                    .eventName("logged_out")
-                    .domain("user")
-                    .entity("session")
-                    .action("ended")
-                    .timestamp(Instant.now().toString())
-                    .journeyId(journeyId)
-                    .userEcosystemId(userEcosystemId)
-                    .build());
+            analyticsEmitter.emitLoggedOut(journeyId, userEcosystemId);
         }
 
         return ResponseEntity.ok(Map.of("status", "logged_out"));
@@ -104,23 +99,6 @@ public class UserSessionController {
         return null;
     }
 
-    private void emitLoginEvent(String journeyId, String userEcosystemId) {
-        if (journeyId == null) {
-            journeyId = "jrn_unknown";
-        }
-
-        analyticsClient.sendEvent(AnalyticsClient.AnalyticsEvent.builder()
-                .eventId("evt_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16))
-                .eventName("logged_in")
-                .domain("user")
-                .entity("session")
-                .action("created")
-                .timestamp(Instant.now().toString())
-                .journeyId(journeyId)
-                .userEcosystemId(userEcosystemId)
-                .build());
-    }
-
     public record LoginRequest(
             @NotBlank String username,
             @NotBlank String password
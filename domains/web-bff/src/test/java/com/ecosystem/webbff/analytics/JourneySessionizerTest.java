@@ -0,0 +1,188 @@
+package com.ecosystem.webbff.analytics;
+
+import com.ecosystem.webbff.analytics.JourneySessionizer.JourneySummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Journeys aggregate their events until logout, inactivity or eviction closes them; closed summaries
+ * leave in batches, each with its own ID, and stay queued unchanged while uploads fail. A batch the
+ * service rejects is dropped rather than retried.
+ */
+class JourneySessionizerTest {
+
+    private static final Duration INACTIVITY = Duration.ofMinutes(30);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final List<List<JourneySummary>> uploads = new ArrayList<>();
+    private final AtomicBoolean failUploads = new AtomicBoolean();
+    private final List<List<JourneySummary>> failedUploads = new ArrayList<>();
+
+    private JourneySessionizer sessionizer(int maxOpen, int batchSize) {
+        return new JourneySessionizer(new SimpleMeterRegistry(), INACTIVITY, maxOpen, 1_000, batchSize, now::get,
+                batch -> {
+                    if (failUploads.get()) {
+                        failedUploads.add(batch);
+                        throw new IllegalStateException("analytics down");
+                    }
+                    uploads.add(batch);
+                }, null);
+    }
+
+    @Test
+    void loggedOut_closesJourneyWithItsAggregate() {
+        JourneySessionizer sessionizer = sessionizer(100, 500);
+
+        sessionizer.record("jrn_1", null, "platform", "navigation", "2025-01-01T10:00:05Z");
+        sessionizer.record("jrn_1", "usr_1", "user", "logged_in", "2025-01-01T10:00:00Z");
+        sessionizer.record("jrn_1", "usr_1", "credit-card", "purchase_simulated", "2025-01-01T10:01:00Z");
+        sessionizer.record("jrn_1", "usr_1", "credit-card", "purchase_simulated", "2025-01-01T10:02:00Z");
+        sessionizer.record("jrn_1", "usr_1", "user", JourneySessionizer.LOGGED_OUT, "2025-01-01T10:03:00Z");
+        sessionizer.flush();
+
+        assertThat(uploads).hasSize(1);
+        assertThat(uploads.get(0)).singleElement()
+                .usingRecursiveComparison().ignoringFields("summaryId")
+                .isEqualTo(new JourneySummary(null, "jrn_1", "usr_1",
+                        "2025-01-01T10:00:00Z", "2025-01-01T10:03:00Z", 5,
+                        Map.of("user", 2, "credit-card", 2, "platform", 1), JourneySessionizer.LOGGED_OUT));
+        assertThat(sessionizer.openJourneys()).isZero();
+    }
+
+    @Test
+    void journeysWithoutId_areIgnored() {
+        JourneySessionizer sessionizer = sessionizer(100, 500);
+
+        sessionizer.record(null, "usr_1", "user", "logged_in", null);
+        sessionizer.record(JourneySessionizer.UNKNOWN_JOURNEY, "usr_1", "user", "logged_in", null);
+
+        assertThat(sessionizer.openJourneys()).isZero();
+    }
+
+    @Test
+    void idleJourneys_closeAfterInactivityTimeout() {
+        JourneySessionizer sessionizer = sessionizer(100, 500);
+
+        sessionizer.record("jrn_idle", "usr_1", "user", "logged_in", null);
+        sessionizer.record("jrn_active", "usr_2", "user", "logged_in", null);
+        now.addAndGet(INACTIVITY.toMillis() / 2);
+        sessionizer.record("jrn_active", "usr_2", "credit-card", "offer_viewed", null);
+        now.addAndGet(INACTIVITY.toMillis() / 2);
+        sessionizer.flush();
+
+        assertThat(uploads).hasSize(1);
+        assertThat(uploads.get(0)).extracting(JourneySummary::journeyId, JourneySummary::endReason)
+                .containsExactly(tuple("jrn_idle", "inactive"));
+        assertThat(sessionizer.openJourneys()).isEqualTo(1);
+    }
+
+    @Test
+    void overCapacity_evictsLeastRecentlyActiveJourney() {
+        JourneySessionizer sessionizer = sessionizer(2, 500);
+
+        sessionizer.record("jrn_a", "usr_a", "user", "logged_in", null);
+        sessionizer.record("jrn_b", "usr_b", "user", "logged_in", null);
+        sessionizer.record("jrn_a", "usr_a", "credit-card", "offer_viewed", null);
+        sessionizer.record("jrn_c", "usr_c", "user", "logged_in", null);
+        sessionizer.flush();
+
+        assertThat(uploads).hasSize(1);
+        assertThat(uploads.get(0)).extracting(JourneySummary::journeyId, JourneySummary::endReason)
+                .containsExactly(tuple("jrn_b", "evicted"));
+        assertThat(sessionizer.openJourneys()).isEqualTo(2);
+    }
+
+    @Test
+    void everyClose_getsItsOwnSummaryId_andCountsItsReason() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JourneySessionizer sessionizer = new JourneySessionizer(registry, INACTIVITY, 100, 1_000, 500, now::get,
+                uploads::add, null);
+        assertThat(registry.get("bff.analytics.journeys.closed").tag("reason", "evicted").counter().count()).isZero();
+
+        sessionizer.record("jrn_again", "usr_1", "user", JourneySessionizer.LOGGED_OUT, null);
+        sessionizer.record("jrn_again", "usr_1", "user", JourneySessionizer.LOGGED_OUT, null);
+        sessionizer.flush();
+
+        assertThat(uploads.get(0)).extracting(JourneySummary::summaryId)
+                .doesNotHaveDuplicates()
+                .allSatisfy(id -> assertThat(id).startsWith("jrn_again#"));
+        assertThat(registry.get("bff.analytics.journeys.closed").tag("reason", "logged_out").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void failedUpload_keepsSummariesForNextFlush_inBatches() {
+        JourneySessionizer sessionizer = sessionizer(100, 2);
+        for (int i = 0; i < 3; i++) {
+            sessionizer.record("jrn_" + i, "usr_" + i, "user", JourneySessionizer.LOGGED_OUT,
+                    Instant.ofEpochMilli(now.get()).toString());
+        }
+
+        failUploads.set(true);
+        sessionizer.flush();
+        assertThat(uploads).isEmpty();
+        assertThat(sessionizer.pendingSummaries()).isEqualTo(3);
+
+        failUploads.set(false);
+        sessionizer.flush();
+        assertThat(uploads).hasSize(2);
+        assertThat(uploads.stream().flatMap(List::stream).map(JourneySummary::journeyId))
+                .containsExactly("jrn_0", "jrn_1", "jrn_2");
+        // A retry repeats the summary IDs, so the service can skip what an earlier attempt applied
+        assertThat(uploads.get(0)).isEqualTo(failedUploads.get(0));
+        assertThat(sessionizer.pendingSummaries()).isZero();
+    }
+
+    @Test
+    void rejectedBatch_isDropped_andLaterBatchesStillUpload() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        JourneySessionizer sessionizer = new JourneySessionizer(registry, INACTIVITY, 100, 1_000, 1, now::get,
+                batch -> {
+                    if (batch.get(0).journeyId().equals("jrn_bad")) {
+                        throw WebClientResponseException.create(400, "Bad Request", null, null, null);
+                    }
+                    uploads.add(batch);
+                }, null);
+        sessionizer.record("jrn_bad", "usr_1", "user", JourneySessionizer.LOGGED_OUT, null);
+        sessionizer.record("jrn_ok", "usr_2", "user", JourneySessionizer.LOGGED_OUT, null);
+
+        sessionizer.flush();
+
+        assertThat(uploads).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(JourneySummary::journeyId).containsExactly("jrn_ok"));
+        assertThat(sessionizer.pendingSummaries()).isZero();
+        assertThat(registry.get("bff.analytics.journeys.dropped").counter().count()).isEqualTo(1);
+        assertThat(registry.get("bff.analytics.journeys.upload_failures").counter().count()).isZero();
+    }
+
+    @Test
+    void record_keepsSummariesWithinTheServiceLimits() {
+        JourneySessionizer sessionizer = sessionizer(100, 500);
+        String tooLong = "x".repeat(51);
+
+        sessionizer.record(tooLong, "usr_1", "user", "logged_in", null);
+        assertThat(sessionizer.openJourneys()).isZero();
+
+        sessionizer.record("jrn_1", tooLong, "user", "logged_in", "+10000-01-01T00:00:00Z");
+        sessionizer.record("jrn_1", "usr_1", "user", JourneySessionizer.LOGGED_OUT, "-0001-01-01T00:00:00Z");
+        sessionizer.flush();
+
+        assertThat(uploads.get(0)).singleElement().satisfies(summary -> {
+            assertThat(summary.userEcosystemId()).isEqualTo("usr_1");
+            assertThat(summary.startedAt()).isEqualTo("1970-01-01T00:00:00Z");
+            assertThat(summary.endedAt()).isEqualTo("9999-12-31T23:59:59.999Z");
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.ecosystem.webbff.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revocations hold until the token would have expired, then age out with their generation.
+ */
+class TokenRevocationListTest {
+
+    private static final Duration MAX_AGE = Duration.ofHours(24);
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    private TokenRevocationList revocationList(int exactCapacity) {
+        return new TokenRevocationList(new SimpleMeterRegistry(), MAX_AGE, 4, 10_000, 0.000001,
+                exactCapacity, now::get, false);
+    }
+
+    @Test
+    void revokedToken_staysRevokedForMaxAge_thenAgesOut() {
+        TokenRevocationList list = revocationList(1_000);
+        String token = "demo_alice_usralice_user_" + now.get();
+
+        list.revoke(token, now.get() + MAX_AGE.toMillis());
+        assertThat(list.isRevoked(token)).isTrue();
+        assertThat(list.isRevoked("demo_bob_usrbob_user_" + now.get())).isFalse();
+
+        now.addAndGet(MAX_AGE.toMillis());
+        list.rotateIfDue();
+        assertThat(list.isRevoked(token)).isTrue();
+
+        now.addAndGet(MAX_AGE.toMillis() / 3);
+        list.rotateIfDue();
+        assertThat(list.isRevoked(token)).isFalse();
+    }
+
+    @Test
+    void expiredToken_isNotStored() {
+        TokenRevocationList list = revocationList(1_000);
+        list.revoke("demo_old_usrold_user_1", now.get() - 1);
+
+        assertThat(list.isRevoked("demo_old_usrold_user_1")).isFalse();
+    }
+
+    @Test
+    void overflowingExactSet_fallsBackToBloomFilter() {
+        TokenRevocationList list = revocationList(8);
+        for (int i = 0; i < 100; i++) {
+            list.revoke("demo_u_usr" + i + "_user_" + now.get(), now.get() + MAX_AGE.toMillis());
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(list.isRevoked("demo_u_usr" + i + "_user_" + now.get())).isTrue();
+        }
+    }
+
+    @Test
+    void check_doesNotAllocate() {
+        TokenRevocationList list = revocationList(1_000);
+        list.revoke("demo_gone_usrgone_user_1", now.get() + MAX_AGE.toMillis());
+        String live = "demo_live_usrlive_user_1";
+        String revoked = "demo_gone_usrgone_user_1";
+
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 20_000; i++) {
+            list.isRevoked(live);
+            list.isRevoked(revoked);
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            list.isRevoked(live);
+            list.isRevoked(revoked);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(allocated).isLessThan(4_096);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ecosystem.webbff.creditcard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Conditional GETs on the account: unchanged state answers 304, any action invalidates the ETag.
+ * Offer revalidations answer 304 without counting as views.
+ */
+@SpringBootTest(properties = "feature.flags.credit-cards.pre-approved-offers=true")
+@AutoConfigureMockMvc
+class AccountConditionalGetTest {
+
+    private static final String TOKEN = "Bearer demo_etag_usretag001_user_1700000000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void account_returns304UntilStateChanges() throws Exception {
+        String etag = mockMvc.perform(get("/api/credit-card/account").header("Authorization", TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/credit-card/account")
+                        .header("Authorization", TOKEN)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(post("/api/credit-card/actions/raise-limit").header("Authorization", TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.newLimit").value(7000.00))
+                .andExpect(jsonPath("$.availableLimit").value(7000.00));
+
+        String newEtag = mockMvc.perform(get("/api/credit-card/account")
+                        .header("Authorization", TOKEN)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creditLimit").value(7000.00))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void offer_revalidationIsNotCountedAsView() throws Exception {
+        String etag = mockMvc.perform(get("/api/credit-card/offer").header("Authorization", TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PRE_APPROVED"))
+                .andReturn().getResponse().getHeader("ETag");
+        double views = meterRegistry.get("bff.credit_card.offer_views").counter().count();
+
+        mockMvc.perform(get("/api/credit-card/offer")
+                        .header("Authorization", TOKEN)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        assertThat(meterRegistry.get("bff.credit_card.offer_views").counter().count()).isEqualTo(views);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecosystem.webbff.creditcard;
+
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.AccountChanged;
+import com.ecosystem.webbff.creditcard.CreditCardAccountStore.VersionedAccount;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The account stream starts with the current state and pushes every change.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccountStreamTest {
+
+    private static final String TOKEN = "Bearer demo_stream_usrstream001_user_1700000000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountStreamBroadcaster broadcaster;
+
+    @Autowired
+    private CreditCardAccountStore accountStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void stream_pushesInitialStateAndLimitRaise() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/credit-card/account/stream")
+                        .header("Authorization", TOKEN))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        awaitContent(stream, "id:0");
+
+        mockMvc.perform(post("/api/credit-card/actions/raise-limit").header("Authorization", TOKEN))
+                .andExpect(status().isOk());
+
+        awaitContent(stream, "id:1");
+        assertThat(stream.getContentAsString()).contains("event:account").contains("\"creditLimit\":7000.00");
+    }
+
+    @Test
+    void stream_dropsOutOfOrderUpdates_asStaleNotConflated() throws Exception {
+        String token = "Bearer demo_stale_usrstale001_user_1700000000";
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/credit-card/account/stream")
+                        .header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+        awaitContent(stream, "id:0");
+        double conflated = counter("bff.account_stream.conflated");
+        double stale = counter("bff.account_stream.stale");
+
+        VersionedAccount current = accountStore.versionedSnapshot("usrstale001");
+        broadcaster.onAccountChanged(new AccountChanged("usrstale001",
+                new VersionedAccount(current.version() - 1, current.account())));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (counter("bff.account_stream.stale") == stale && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(counter("bff.account_stream.stale")).isEqualTo(stale + 1);
+        assertThat(counter("bff.account_stream.conflated")).isEqualTo(conflated);
+        assertThat(stream.getContentAsString()).doesNotContain("id:-1");
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!response.getContentAsString().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(response.getContentAsString()).contains(expected);
+    }
+}
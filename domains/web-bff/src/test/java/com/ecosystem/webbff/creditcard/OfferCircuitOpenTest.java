@@ -0,0 +1,50 @@
+package com.ecosystem.webbff.creditcard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * A failed remote offer read falls back to the local offer, and so does a read refused by the
+ * open circuit. The Credit Card service is unreachable in tests.
+ */
+@SpringBootTest(properties = {
+        "services.credit-card.url=http://localhost:1",
+        "credit-card.remote-reads.enabled=true",
+        "feature.flags.credit-cards.pre-approved-offers=true",
+        "resilience.circuit-breakers.credit-card-offer.window-size=1",
+        "resilience.circuit-breakers.credit-card-offer.minimum-calls=1",
+        "resilience.circuit-breakers.credit-card-offer.open-duration=1m",
+        "resilience.hedging.credit-card-offer.enabled=false",
+        "warm-up.enabled=false"
+})
+@AutoConfigureMockMvc
+class OfferCircuitOpenTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void offer_fallsBackOnFailure_andWhileCircuitIsOpen() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/credit-card/offer"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("PRE_APPROVED"));
+        }
+
+        // The second read never reached the downstream
+        assertThat(meterRegistry.get("bff.circuit_breaker.not_permitted")
+                .tag("route", "credit-card-offer").counter().count()).isEqualTo(1);
+    }
+}
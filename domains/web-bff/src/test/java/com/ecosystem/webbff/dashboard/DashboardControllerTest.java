@@ -0,0 +1,34 @@
+package com.ecosystem.webbff.dashboard;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the dashboard fan-out. The User service is unreachable in tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DashboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void dashboard_returnsPartialResultWhenUserServiceIsDown() throws Exception {
+        mockMvc.perform(get("/api/dashboard")
+                        .header("x-journey-id", "jrn_dashboard_test"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.account.creditLimit").exists())
+                .andExpect(jsonPath("$.account.availableLimit").exists())
+                .andExpect(jsonPath("$.profile").doesNotExist())
+                .andExpect(jsonPath("$.degraded", hasSize(1)))
+                .andExpect(jsonPath("$.degraded[0]").value("profile"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecosystem.webbff.featureflags;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Role-targeted flags follow the caller's token, on the public flags endpoint as well as in the
+ * services that check them; reloading flags is for admins only.
+ */
+@SpringBootTest(properties = "flag-engine.source=classpath:feature-flags/staff-offers.json")
+@AutoConfigureMockMvc
+class FeatureFlagControllerTest {
+
+    private static final String FLAG = "$.flags['credit-cards.pre-approved-offers']";
+    private static final String ADMIN_TOKEN = "Bearer demo_root_usrroot001_ADMIN_1700000000";
+    private static final String USER_TOKEN = "Bearer demo_alice_usralice001_USER_1700000000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void flags_areEvaluatedForTheTokenRole() throws Exception {
+        mockMvc.perform(get("/api/feature-flags").header("Authorization", ADMIN_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FLAG).value(true));
+
+        mockMvc.perform(get("/api/feature-flags").header("Authorization", USER_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FLAG).value(false));
+
+        mockMvc.perform(get("/api/feature-flags"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(FLAG).value(false));
+    }
+
+    @Test
+    void offer_isGatedByTheTokenRole() throws Exception {
+        mockMvc.perform(get("/api/credit-card/offer").header("Authorization", ADMIN_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PRE_APPROVED"));
+
+        mockMvc.perform(get("/api/credit-card/offer").header("Authorization", USER_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.featureEnabled").value(false));
+    }
+
+    @Test
+    void reload_requiresAdmin() throws Exception {
+        mockMvc.perform(post("/api/admin/feature-flags/reload"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/admin/feature-flags/reload").header("Authorization", USER_TOKEN))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/admin/feature-flags/reload").header("Authorization", ADMIN_TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reloaded").value(false));
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecosystem.webbff.featureflags;
+
+import com.ecosystem.webbff.featureflags.FeatureFlagSnapshot.FlagSpec;
+import com.ecosystem.webbff.featureflags.FeatureFlagSnapshot.SegmentSpec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rollout, targeting and kill-switch semantics of a compiled snapshot.
+ */
+class FeatureFlagSnapshotTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final FeatureFlagSnapshot snapshot = FeatureFlagSnapshot.compile(
+            Map.of(
+                    "rollout", new FlagSpec(true, 25.0, null, null),
+                    "targeted", new FlagSpec(true, null, List.of("staff"), null),
+                    "killed", new FlagSpec(false, 100.0, List.of("staff"), null)
+            ),
+            Map.of("staff", new SegmentSpec(List.of("usr_vip"), List.of("usr_staff_"), List.of("admin"))),
+            registry);
+
+    @Test
+    void percentageRollout_isStableAndProportional() {
+        int enabled = 0;
+        for (int i = 0; i < 20_000; i++) {
+            String user = "usr_" + i;
+            boolean on = snapshot.isEnabled("rollout", user, null);
+            assertThat(snapshot.isEnabled("rollout", user, null)).isEqualTo(on);
+            if (on) {
+                enabled++;
+            }
+        }
+        assertThat(enabled).isBetween(4_600, 5_400);
+    }
+
+    @Test
+    void segmentTargeting_matchesIdsPrefixesAndRoles() {
+        assertThat(snapshot.isEnabled("targeted", "usr_vip", null)).isTrue();
+        assertThat(snapshot.isEnabled("targeted", "usr_staff_42", null)).isTrue();
+        assertThat(snapshot.isEnabled("targeted", "usr_other", "admin")).isTrue();
+        assertThat(snapshot.isEnabled("targeted", "usr_other", "user")).isFalse();
+    }
+
+    @Test
+    void disabledAndUnknownFlags_areOff() {
+        assertThat(snapshot.isEnabled("killed", "usr_vip", "admin")).isFalse();
+        assertThat(snapshot.isEnabled("missing", "usr_vip", null)).isFalse();
+        assertThat(registry.get("feature_flag.evaluations").tags("flag", "killed", "result", "off").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecosystem.webbff.health;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Warm-up runs its journeys through the listening server once the application is ready, with every
+ * downstream call answered by the stubs: the real downstreams point at a closed port here, so any
+ * call that leaked past the stubs would surface as an error. Warm-up leaves the business counters alone.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "warm-up.journeys=8",
+                "warm-up.rounds=2",
+                "warm-up.concurrency=2",
+                "services.user.url=http://127.0.0.1:9",
+                "services.credit-card.url=http://127.0.0.1:9",
+                "services.analytics.url=http://127.0.0.1:9",
+                "credit-card.remote-reads.enabled=true",
+                "feature.flags.credit-cards.pre-approved-offers=true"
+        })
+class WarmUpRunnerTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void warmUp_runsJourneysAgainstStubsThenOpensReadiness() throws InterruptedException {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (!warmUpRunner.result().status().finished() && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        WarmUpRunner.Result result = warmUpRunner.result();
+        assertThat(result.status()).isEqualTo(WarmUpRunner.Status.DONE);
+        assertThat(result.journeys()).isEqualTo(8);
+        assertThat(result.errors()).isZero();
+        assertThat(result.stubCalls()).isPositive();
+        assertThat(result.lastRoundP99Ms()).isPositive();
+        assertThat(meterRegistry.find("bff.credit_card.purchases").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+        assertThat(meterRegistry.get("bff.credit_card.limit_raises").counter().count()).isZero();
+        assertThat(meterRegistry.get("bff.credit_card.offer_views").counter().count()).isZero();
+
+        ResponseEntity<Map> ready = restTemplate.getForEntity("/ready", Map.class);
+        assertThat(ready.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Map<?, ?> checks = (Map<?, ?>) ready.getBody().get("checks");
+        assertThat(((Map<?, ?>) checks.get("warm-up")).get("status")).isEqualTo("done");
+    }
+}
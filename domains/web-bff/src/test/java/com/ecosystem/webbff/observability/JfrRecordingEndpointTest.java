@@ -0,0 +1,72 @@
+package com.ecosystem.webbff.observability;
+
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * One bounded recording at a time; a dump holds the custom events committed while it ran.
+ */
+class JfrRecordingEndpointTest {
+
+    private final JfrRecordingEndpoint endpoint = new JfrRecordingEndpoint(
+            DataSize.ofMegabytes(16), Duration.ofMinutes(5), Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        endpoint.close();
+    }
+
+    @Test
+    void start_capsDurationAndRejectsSecondRecording() {
+        WebEndpointResponse<Map<String, Object>> started = endpoint.start(null, Duration.ofHours(2));
+
+        assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+        assertThat(started.getBody()).containsEntry("state", "running").containsEntry("duration", "PT10M");
+        assertThat(endpoint.start("default", null).getStatus()).isEqualTo(409);
+    }
+
+    @Test
+    void start_withUnknownSettings_isBadRequest() {
+        assertThat(endpoint.start("does-not-exist", null).getStatus())
+                .isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+        assertThat(endpoint.status()).containsEntry("state", "none");
+    }
+
+    @Test
+    void dump_containsEventsCommittedWhileRecording() throws Exception {
+        assertThat(endpoint.dump("dump").getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+
+        endpoint.start("default", null);
+        TestEvent event = new TestEvent();
+        event.begin();
+        event.commit();
+        assertThat(endpoint.stop().getBody()).containsEntry("state", "stopped");
+
+        Resource dump = endpoint.dump("dump").getBody();
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, dump.getContentAsByteArray());
+            assertThat(RecordingFile.readAllEvents(file))
+                    .anyMatch(e -> e.getEventType().getName().equals("com.ecosystem.test.JfrEndpoint"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Name("com.ecosystem.test.JfrEndpoint")
+    static class TestEvent extends Event {
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecosystem.webbff.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hot-path INFO messages are capped per logger and template; WARN and other loggers pass untouched.
+ */
+class LogSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setContext(context);
+        filter.setRules("com.ecosystem.hot=5, com.ecosystem.hot.quiet=0");
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void repetitiveInfo_isCappedPerTemplate() {
+        Logger hot = context.getLogger("com.ecosystem.hot.Controller");
+        long before = LogSamplingFilter.sampledOut();
+
+        for (int i = 0; i < 50; i++) {
+            hot.info("Purchase approved for user {}", i);
+            hot.info("Raised limit for user {}", i);
+        }
+
+        assertThat(count("Purchase approved for user {}")).isEqualTo(5);
+        assertThat(count("Raised limit for user {}")).isEqualTo(5);
+        assertThat(LogSamplingFilter.sampledOut() - before).isEqualTo(90);
+    }
+
+    @Test
+    void warnings_otherLoggers_andZeroRates_areNeverSampled() {
+        for (int i = 0; i < 20; i++) {
+            context.getLogger("com.ecosystem.hot.Controller").warn("Downstream failed {}", i);
+            context.getLogger("com.ecosystem.cold.Service").info("Cold path {}", i);
+            context.getLogger("com.ecosystem.hot.quiet.Service").info("Exempt {}", i);
+        }
+
+        assertThat(count("Downstream failed {}")).isEqualTo(20);
+        assertThat(count("Cold path {}")).isEqualTo(20);
+        assertThat(count("Exempt {}")).isEqualTo(20);
+    }
+
+    private long count(String template) {
+        return appender.list.stream().filter(e -> template.equals(e.getMessage())).count();
+    }
+}
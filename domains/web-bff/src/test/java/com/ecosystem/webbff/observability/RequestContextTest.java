@@ -0,0 +1,108 @@
+package com.ecosystem.webbff.observability;
+
+import com.ecosystem.webbff.resilience.Bulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The request context follows work onto virtual threads, bulkhead callbacks and Reactor threads,
+ * and is gone again once the scope closes.
+ */
+class RequestContextTest {
+
+    private static final RequestContext CONTEXT = new RequestContext(
+            "req_1", "jrn_1", "usr_1", "alice", "user", "0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", false);
+
+    @BeforeAll
+    static void enableReactorPropagation() {
+        Hooks.enableAutomaticContextPropagation();
+    }
+
+    @AfterAll
+    static void disableReactorPropagation() {
+        Hooks.disableAutomaticContextPropagation();
+    }
+
+    @Test
+    void scope_mirrorsIntoMdcAndRestoresPrevious() {
+        RequestContext withUser = CONTEXT.withUser("usr_2", "bob", "admin");
+
+        try (RequestContext.Scope outer = CONTEXT.open()) {
+            try (RequestContext.Scope inner = withUser.open()) {
+                assertThat(RequestContext.current().username()).isEqualTo("bob");
+                assertThat(MDC.get(CorrelationFilter.MDC_USER_ECOSYSTEM_ID)).isEqualTo("usr_2");
+            }
+            assertThat(RequestContext.current()).isSameAs(CONTEXT);
+            assertThat(MDC.get(CorrelationFilter.MDC_TRACE_ID)).isEqualTo(CONTEXT.traceId());
+        }
+
+        assertThat(RequestContext.current()).isSameAs(RequestContext.EMPTY);
+        assertThat(MDC.get(CorrelationFilter.MDC_REQUEST_ID)).isNull();
+    }
+
+    @Test
+    void wrap_carriesContextOntoVirtualThreads() throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<String> seen;
+            try (RequestContext.Scope ignored = CONTEXT.open()) {
+                seen = CompletableFuture.supplyAsync(() -> MDC.get(CorrelationFilter.MDC_JOURNEY_ID), executor);
+                assertThat(seen.get(5, TimeUnit.SECONDS)).isNull();
+
+                assertThat(executor.submit(RequestContext.wrap(() -> RequestContext.current())).get(5, TimeUnit.SECONDS))
+                        .isSameAs(CONTEXT);
+            }
+        }
+    }
+
+    @Test
+    void bulkhead_completesCallbacksInsideCallerContext() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Bulkhead.RejectionPolicy.FAIL, true, new SimpleMeterRegistry());
+        CompletableFuture<String> callbackJourney = new CompletableFuture<>();
+        CountDownLatch registered = new CountDownLatch(1);
+
+        try (RequestContext.Scope ignored = CONTEXT.open()) {
+            bulkhead.submit(() -> awaitQuietly(registered))
+                    .whenComplete((value, error) -> callbackJourney.complete(MDC.get(CorrelationFilter.MDC_JOURNEY_ID)));
+        }
+        // The task finishes only after the callback is registered, so the callback runs on the bulkhead thread
+        registered.countDown();
+
+        assertThat(callbackJourney.get(5, TimeUnit.SECONDS)).isEqualTo("jrn_1");
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Test
+    void reactor_restoresContextOnSchedulerThreads() {
+        String seen;
+        try (RequestContext.Scope ignored = CONTEXT.open()) {
+            seen = Mono.just("x")
+                    .publishOn(Schedulers.boundedElastic())
+                    .map(x -> RequestContext.current().requestId() + "/" + MDC.get(CorrelationFilter.MDC_SPAN_ID))
+                    .block();
+        }
+
+        assertThat(seen).isEqualTo("req_1/b7ad6b7169203331");
+    }
+}
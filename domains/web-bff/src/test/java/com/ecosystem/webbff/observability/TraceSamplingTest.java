@@ -0,0 +1,98 @@
+package com.ecosystem.webbff.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Head sampling stays within ratio and budget, while errors and slow spans are always exported.
+ */
+class TraceSamplingTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SdkTracerProvider tracerProvider;
+
+    private Tracer tracer(double ratio, double maxTracesPerSecond, int maxQueueSize) {
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(new AdaptiveSampler(ratio, maxTracesPerSecond, true))
+                .addSpanProcessor(new ErrorBiasedSpanProcessor(
+                        exporter,
+                        new ErrorBiasedSpanProcessor.ExportSettings(maxQueueSize, 512, Duration.ofSeconds(30), Duration.ofSeconds(5)),
+                        Duration.ofMillis(500),
+                        0,
+                        registry))
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void shutdown() {
+        tracerProvider.shutdown().join(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void unsampledSpans_areDroppedUnlessFailedOrSlow() {
+        Tracer tracer = tracer(0.0, 0, 2048);
+
+        tracer.spanBuilder("ok").startSpan().end();
+        tracer.spanBuilder("failed").startSpan().setStatus(StatusCode.ERROR).end();
+        Span slow = tracer.spanBuilder("slow").setStartTimestamp(1_000, TimeUnit.MILLISECONDS).startSpan();
+        slow.end(3_000, TimeUnit.MILLISECONDS);
+
+        assertThat(exportedNames()).containsExactlyInAnyOrder("failed", "slow");
+        assertThat(count("tracing.spans.dropped", "reason", "unsampled")).isEqualTo(1);
+        assertThat(count("tracing.spans.kept", "reason", "error")).isEqualTo(1);
+        assertThat(count("tracing.spans.kept", "reason", "slow")).isEqualTo(1);
+        assertThat(count("tracing.spans.exported", "result", "success")).isEqualTo(2);
+    }
+
+    @Test
+    void newTraces_areCappedByBudget_butChildrenFollowTheirParent() {
+        Tracer tracer = tracer(1.0, 2, 2048);
+
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope ignored = root.makeCurrent()) {
+            tracer.spanBuilder("second-root").setNoParent().startSpan().end();
+            tracer.spanBuilder("over-budget").setNoParent().startSpan().end();
+            tracer.spanBuilder("child").startSpan().end();
+        }
+        root.end();
+
+        assertThat(exportedNames()).containsExactlyInAnyOrder("root", "second-root", "child");
+        assertThat(exporter.getFinishedSpanItems()).allMatch(span -> span.getSpanContext().isSampled());
+    }
+
+    @Test
+    void spansBeyondQueue_areDroppedAndCounted() {
+        Tracer tracer = tracer(1.0, 0, 2);
+
+        for (int i = 0; i < 5; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        assertThat(exportedNames()).hasSize(2);
+        assertThat(count("tracing.spans.dropped", "reason", "queue_full")).isEqualTo(3);
+    }
+
+    private java.util.List<String> exportedNames() {
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        return exporter.getFinishedSpanItems().stream().map(SpanData::getName).toList();
+    }
+
+    private double count(String name, String tag, String value) {
+        return registry.get(name).tag(tag, value).counter().count();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecosystem.webbff.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Buckets allow a burst up to capacity, then refill lazily at the configured rate.
+ */
+class TokenBucketLimiterTest {
+
+    @Test
+    void burstUpToCapacity_thenRejectsWithRetryAfter() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 3, 2.0);
+
+        assertThat(limiter.tryAcquire("usr_1", 1_000)).isZero();
+        assertThat(limiter.tryAcquire("usr_1", 1_000)).isZero();
+        assertThat(limiter.tryAcquire("usr_1", 1_000)).isZero();
+
+        // Two tokens per second: the next one is 500ms away
+        assertThat(limiter.tryAcquire("usr_1", 1_000)).isEqualTo(500);
+        assertThat(limiter.tryAcquire("usr_2", 1_000)).isZero();
+    }
+
+    @Test
+    void refillsLazily_andNeverAboveCapacity() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 2, 1.0);
+        limiter.tryAcquire("usr_1", 0);
+        limiter.tryAcquire("usr_1", 0);
+
+        assertThat(limiter.tryAcquire("usr_1", 400)).isEqualTo(600);
+        assertThat(limiter.tryAcquire("usr_1", 1_000)).isZero();
+
+        long later = 60_000;
+        assertThat(limiter.tryAcquire("usr_1", later)).isZero();
+        assertThat(limiter.tryAcquire("usr_1", later)).isZero();
+        assertThat(limiter.tryAcquire("usr_1", later)).isPositive();
+    }
+
+    @Test
+    void evictsOnlyBucketsThatHaveFullyRefilled() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 10, 10.0);
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("active", 900);
+
+        assertThat(limiter.evictIdle(1_500)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A full bulkhead must shed its own work without blocking the caller.
+ */
+class BulkheadTest {
+
+    @Test
+    void saturatedBulkhead_failsFastAndCountsRejection() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Bulkhead.RejectionPolicy.FAIL, true, registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running = bulkhead.submit(() -> await(release));
+        CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+        CompletableFuture<String> rejected = bulkhead.submit(() -> "rejected");
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BulkheadFullException.class);
+        assertThat(registry.get("bff.bulkhead.rejected").tag("bulkhead", "test").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("queued");
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void dropPolicy_completesEmptyWhenFull() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("best-effort", 1, 0, Bulkhead.RejectionPolicy.DROP, false, registry);
+        CountDownLatch release = new CountDownLatch(1);
+
+        bulkhead.submit(() -> await(release));
+        assertThat(bulkhead.submit(() -> "dropped").get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(registry.get("bff.bulkhead.dropped").tag("bulkhead", "best-effort").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void timedOutCall_interruptsTaskAndFreesItsSlot() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("slow", 1, 0, Bulkhead.RejectionPolicy.FAIL, false, registry);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> bulkhead.call(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        }, Duration.ofMillis(50)))
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.call(() -> "next", Duration.ofSeconds(1))).isEqualTo("next");
+        bulkhead.shutdown();
+    }
+
+    @Test
+    void nonBlockingCalls_holdSlotsUntilTheyTerminate() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Bulkhead bulkhead = new Bulkhead("reactive", 1, 0, Bulkhead.RejectionPolicy.FAIL, true, registry);
+        Sinks.One<String> inFlight = Sinks.one();
+
+        CompletableFuture<String> first = bulkhead.execute(inFlight::asMono).toFuture();
+        assertThatThrownBy(() -> bulkhead.execute(() -> Mono.just("rejected")).block())
+                .isInstanceOf(BulkheadFullException.class);
+
+        inFlight.tryEmitValue("done");
+        assertThat(first).isCompletedWithValue("done");
+        assertThat(bulkhead.execute(() -> Mono.just("next")).block()).isEqualTo("next");
+        assertThat(registry.get("bff.bulkhead.rejected").tag("bulkhead", "reactive").counter().count()).isEqualTo(1);
+        bulkhead.shutdown();
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Breaker state transitions, driven by a manual clock.
+ */
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 0.5, 0.8,
+            Duration.ofMillis(100), Duration.ofSeconds(5), 2, new SimpleMeterRegistry(), now::get);
+
+    @Test
+    void opensOnFailureRate_thenClosesAfterSuccessfulProbes() {
+        breaker.onResult(0, false);
+        breaker.onResult(0, false);
+        breaker.onResult(0, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onResult(0, true);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.decorate(Mono.just("ok")).block())
+                .isInstanceOf(CircuitOpenException.class);
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onResult(0, false);
+        breaker.onResult(0, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowProbe_reopensBreaker() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(Duration.ofMillis(200).toNanos(), false);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onResult(Duration.ofMillis(200).toNanos(), false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
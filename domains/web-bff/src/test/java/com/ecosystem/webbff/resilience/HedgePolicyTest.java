@@ -0,0 +1,65 @@
+package com.ecosystem.webbff.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A hedge beats a stuck first attempt, but only while the budget lasts.
+ */
+class HedgePolicyTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void hedgeWinsWhenFirstAttemptIsSlow() {
+        HedgePolicy policy = new HedgePolicy("test", true, Duration.ofMillis(10), Duration.ofMillis(20),
+                0.05, 1, 64, registry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.execute(() -> attempts.getAndIncrement() == 0
+                        ? Mono.just("slow").delayElement(Duration.ofSeconds(2))
+                        : Mono.just("hedge"))
+                .block(Duration.ofSeconds(1));
+
+        assertThat(result).isEqualTo("hedge");
+        assertThat(registry.get("bff.hedge.issued").counter().count()).isEqualTo(1);
+        assertThat(registry.get("bff.hedge.won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void winningHedges_keepTheBeatenOriginalsInTheDelay() {
+        HedgePolicy policy = new HedgePolicy("test", true, Duration.ofMillis(1), Duration.ofMillis(50),
+                1.0, 1, 32, registry);
+
+        for (int i = 0; i < 16; i++) {
+            AtomicInteger attempts = new AtomicInteger();
+            policy.execute(() -> attempts.getAndIncrement() == 0
+                            ? Mono.just("slow").delayElement(Duration.ofSeconds(2))
+                            : Mono.just("hedge"))
+                    .block(Duration.ofSeconds(1));
+        }
+
+        // Only the instant hedges would put the p95 at the 1ms floor
+        assertThat(registry.get("bff.hedge.won").counter().count()).isEqualTo(16);
+        assertThat(policy.currentDelayNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(40).toNanos());
+    }
+
+    @Test
+    void exhaustedBudget_skipsHedge() {
+        HedgePolicy policy = new HedgePolicy("test", true, Duration.ofMillis(10), Duration.ofMillis(10),
+                0.0, 1, 64, registry);
+
+        for (int i = 0; i < 2; i++) {
+            policy.execute(() -> Mono.just("ok").delayElement(Duration.ofMillis(50))).block(Duration.ofSeconds(1));
+        }
+
+        assertThat(registry.get("bff.hedge.issued").counter().count()).isEqualTo(1);
+        assertThat(registry.get("bff.hedge.budget_exhausted").counter().count()).isEqualTo(1);
+    }
+}
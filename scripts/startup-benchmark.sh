@@ -0,0 +1,94 @@
+#!/bin/bash
+# Time to first request for the Spring Boot services, before and after the fast-startup build:
+#   baseline - the boot jar as built (java -jar)
+#   aot-cds  - the unpacked jar with Spring AOT and the CDS archive from gradle cdsArchive
+#
+# Each mode is started RUNS times; time to first request is measured from process launch to the
+# first 200 from /health. Results go to domains/<service>/build/startup/results.csv.
+#
+# Usage: scripts/startup-benchmark.sh [service...]    (default: web-bff user-service credit-card-service)
+# Env:   RUNS (default 5), GRADLE (default gradle), JAVA (default $JAVA_HOME/bin/java or java)
+#
+# No dependencies need to be running; the services start with their downstreams unreachable, and the
+# JPA services skip schema validation, which needs a database connection.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS="${RUNS:-5}"
+GRADLE="${GRADLE:-gradle}"
+if [ -z "${JAVA:-}" ]; then
+  if [ -n "${JAVA_HOME:-}" ]; then JAVA="$JAVA_HOME/bin/java"; else JAVA="java"; fi
+fi
+
+declare -A MODULES=([web-bff]=web-bff [user-service]=user [credit-card-service]=credit-card)
+declare -A PORTS=([web-bff]=18080 [user-service]=18081 [credit-card-service]=18082)
+declare -A APP_ARGS=([web-bff]="" [user-service]="--spring.jpa.hibernate.ddl-auto=none" [credit-card-service]="--spring.jpa.hibernate.ddl-auto=none")
+
+services=("$@")
+[ ${#services[@]} -eq 0 ] && services=(web-bff user-service credit-card-service)
+
+now_ms() {
+  echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# Launch a command, wait for /health to answer, print the elapsed milliseconds and stop it
+time_to_first_request() {
+  local port="$1" log="$2" app_args="$3"
+  shift 3
+  local start pid
+  start=$(now_ms)
+  # shellcheck disable=SC2086
+  "$@" --server.port="$port" $app_args > "$log" 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "http://127.0.0.1:$port/health"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "process exited before answering, see $log" >&2
+      return 1
+    fi
+    sleep 0.02
+  done
+  echo $(( $(now_ms) - start ))
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+summary=()
+for service in "${services[@]}"; do
+  module="${MODULES[$service]:?unknown service $service}"
+  dir="$ROOT/domains/$module"
+  port="${PORTS[$service]}"
+  out="$dir/build/startup"
+
+  echo "🔨 Building $service (boot jar, AOT, CDS training run)..."
+  (cd "$dir" && "$GRADLE" -q bootJar cdsArchive)
+  jar="$(ls "$dir"/build/libs/*.jar | grep -v -- '-plain\.jar$' | grep -v -- '-jmh\.jar$' | head -1)"
+
+  mkdir -p "$out"
+  echo "mode,run,time_to_first_request_ms" > "$out/results.csv"
+  for mode in baseline aot-cds; do
+    for run in $(seq 1 "$RUNS"); do
+      if [ "$mode" = baseline ]; then
+        ms=$(time_to_first_request "$port" "$out/$mode-$run.log" "${APP_ARGS[$service]}" "$JAVA" -jar "$jar")
+      else
+        ms=$(time_to_first_request "$port" "$out/$mode-$run.log" "${APP_ARGS[$service]}" "$JAVA" \
+          -XX:SharedArchiveFile="$dir/build/cds/application.jsa" -Dspring.aot.enabled=true \
+          -jar "$dir/build/cds/application/app.jar")
+      fi
+      echo "$mode,$run,$ms" >> "$out/results.csv"
+      echo "  $service $mode run $run: ${ms} ms"
+    done
+  done
+
+  baseline=$(grep '^baseline,' "$out/results.csv" | cut -d, -f3 | median)
+  fast=$(grep '^aot-cds,' "$out/results.csv" | cut -d, -f3 | median)
+  summary+=("$(printf '%-22s %12s %12s %8s' "$service" "$baseline" "$fast" "$(( 100 - 100 * fast / baseline ))%")")
+done
+
+echo ""
+printf '%-22s %12s %12s %8s\n' "service (median ms)" "baseline" "aot-cds" "saved"
+printf '%s\n' "${summary[@]}"